@@ -23,8 +23,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LazyBinaryAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +60,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +70,30 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book data file in the format selected by {@code userPrefs}.
+     * Data files in other formats are kept next to the json data file, which they are imported from while they do
+     * not exist.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath), jsonFilePath);
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(SegmentedAddressBookStorage.toSegmentDirectoryPath(jsonFilePath),
+                    jsonFilePath, SegmentedAddressBookStorage.DEFAULT_SEGMENT_COUNT);
+        case LAZY:
+            return new LazyBinaryAddressBookStorage(LazyBinaryAddressBookStorage.toLazyFilePath(jsonFilePath),
+                    jsonFilePath);
+        case JOURNAL:
+            return new JsonAddressBookStorage(jsonFilePath, JsonAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(jsonFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +204,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
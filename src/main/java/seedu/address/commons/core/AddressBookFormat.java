@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, the default. */
+    JSON,
+    /** Json, with the changes since the file was last written appended to a journal next to it. */
+    JOURNAL,
+    /** Compact binary, which is smaller and faster to load and save. */
+    BINARY,
+    /** Json split into segment files in a directory, of which a save rewrites only the changed ones. */
+    SEGMENTED,
+    /** Compact binary, with the payments of each person only read from the data file when first needed. */
+    LAZY
+}
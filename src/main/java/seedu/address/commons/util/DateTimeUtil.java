@@ -0,0 +1,220 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Parses and formats dates and date-times in the ISO-8601 formats that this app stores, such as {@code 2025-10-15}
+ * and {@code 2025-10-15T14:23:05.123}.
+ *
+ * The common case of a 4-digit year is read and written directly, without the general-purpose formatters of
+ * {@code java.time}. Anything else is left to {@link LocalDate#parse(CharSequence)},
+ * {@link LocalDateTime#parse(CharSequence)} and {@code toString()}, so the strings accepted, the exceptions thrown
+ * and the strings written are the same as theirs.
+ */
+public class DateTimeUtil {
+
+    private static final int DATE_LENGTH = 10; // yyyy-MM-dd
+    private static final int TIME_MINUTES_LENGTH = 5; // HH:mm
+    private static final int TIME_SECONDS_LENGTH = 8; // HH:mm:ss
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int MAX_PLAIN_YEAR = 9999;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+    private static final int NOT_PLAIN = -1;
+
+    private DateTimeUtil() {} // prevent instantiation
+
+    /**
+     * Returns the date in {@code text}, in the format {@code yyyy-MM-dd}.
+     *
+     * @throws java.time.format.DateTimeParseException if {@code text} is not a valid date, as for
+     *     {@link LocalDate#parse(CharSequence)}.
+     */
+    public static LocalDate parseDate(String text) {
+        requireNonNull(text);
+        if (text.length() == DATE_LENGTH && isPlainDate(text, 0)) {
+            try {
+                return toDate(text, 0);
+            } catch (DateTimeException e) {
+                // fall through to report the error as the standard parser does
+            }
+        }
+        return LocalDate.parse(text);
+    }
+
+    /**
+     * Returns the date-time in {@code text}, in the format {@code yyyy-MM-ddTHH:mm[:ss[.fraction]]}.
+     *
+     * @throws java.time.format.DateTimeParseException if {@code text} is not a valid date-time, as for
+     *     {@link LocalDateTime#parse(CharSequence)}.
+     */
+    public static LocalDateTime parseDateTime(String text) {
+        requireNonNull(text);
+        if (text.length() > DATE_LENGTH && isPlainDate(text, 0) && text.charAt(DATE_LENGTH) == 'T') {
+            int timeStart = DATE_LENGTH + 1;
+            int nano = parsePlainTimeNano(text, timeStart);
+            if (nano != NOT_PLAIN) {
+                try {
+                    boolean hasSeconds = text.length() - timeStart >= TIME_SECONDS_LENGTH;
+                    return LocalDateTime.of(toDate(text, 0), LocalTime.of(readTwoDigits(text, timeStart),
+                            readTwoDigits(text, timeStart + 3), hasSeconds ? readTwoDigits(text, timeStart + 6) : 0,
+                            nano));
+                } catch (DateTimeException e) {
+                    // fall through to report the error as the standard parser does
+                }
+            }
+        }
+        return LocalDateTime.parse(text);
+    }
+
+    /**
+     * Returns {@code date} in the format {@code yyyy-MM-dd}, the same as {@link LocalDate#toString()}.
+     */
+    public static String formatDate(LocalDate date) {
+        requireNonNull(date);
+        if (!isPlainYear(date.getYear())) {
+            return date.toString();
+        }
+        char[] chars = new char[DATE_LENGTH];
+        writeDate(chars, date);
+        return new String(chars);
+    }
+
+    /**
+     * Returns {@code dateTime} in the format {@code yyyy-MM-ddTHH:mm[:ss[.fraction]]}, the same as
+     * {@link LocalDateTime#toString()}.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        if (!isPlainYear(dateTime.getYear())) {
+            return dateTime.toString();
+        }
+
+        // like LocalTime#toString, the seconds and fraction are only written when needed, and the fraction is
+        // written in groups of 3 digits
+        int second = dateTime.getSecond();
+        int nano = dateTime.getNano();
+        int fractionDigits = nano == 0 ? 0
+                : nano % NANOS_PER_MILLI == 0 ? 3
+                : nano % NANOS_PER_MICRO == 0 ? 6
+                : MAX_FRACTION_DIGITS;
+        int timeLength = second == 0 && nano == 0 ? TIME_MINUTES_LENGTH
+                : fractionDigits == 0 ? TIME_SECONDS_LENGTH
+                : TIME_SECONDS_LENGTH + 1 + fractionDigits;
+
+        char[] chars = new char[DATE_LENGTH + 1 + timeLength];
+        writeDate(chars, dateTime.toLocalDate());
+        int i = DATE_LENGTH;
+        chars[i++] = 'T';
+        i = writeTwoDigits(chars, i, dateTime.getHour());
+        chars[i++] = ':';
+        i = writeTwoDigits(chars, i, dateTime.getMinute());
+        if (timeLength > TIME_MINUTES_LENGTH) {
+            chars[i++] = ':';
+            i = writeTwoDigits(chars, i, second);
+        }
+        if (fractionDigits > 0) {
+            chars[i++] = '.';
+            int fraction = nano;
+            for (int j = MAX_FRACTION_DIGITS; j > fractionDigits; j--) {
+                fraction /= 10;
+            }
+            for (int j = i + fractionDigits - 1; j >= i; j--) {
+                chars[j] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isPlainYear(int year) {
+        return year >= 0 && year <= MAX_PLAIN_YEAR;
+    }
+
+    /**
+     * Returns true if {@code text} has the digits and hyphens of a {@code yyyy-MM-dd} date from {@code start}.
+     */
+    private static boolean isPlainDate(String text, int start) {
+        for (int i = 0; i < DATE_LENGTH; i++) {
+            char c = text.charAt(start + i);
+            if (i == 4 || i == 7 ? c != '-' : !isAsciiDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDate toDate(String text, int start) {
+        int year = readTwoDigits(text, start) * 100 + readTwoDigits(text, start + 2);
+        return LocalDate.of(year, readTwoDigits(text, start + 5), readTwoDigits(text, start + 8));
+    }
+
+    /**
+     * Returns the nano-of-second of the {@code HH:mm[:ss[.fraction]]} time in {@code text} from {@code start} to its
+     * end, or {@code NOT_PLAIN} if it is not such a time. The hour, minute and second are only checked to be digits.
+     */
+    private static int parsePlainTimeNano(String text, int start) {
+        int length = text.length() - start;
+        if (length < TIME_MINUTES_LENGTH || !isTwoDigits(text, start) || text.charAt(start + 2) != ':'
+                || !isTwoDigits(text, start + 3)) {
+            return NOT_PLAIN;
+        }
+        if (length == TIME_MINUTES_LENGTH) {
+            return 0;
+        }
+        if (length < TIME_SECONDS_LENGTH || text.charAt(start + 5) != ':' || !isTwoDigits(text, start + 6)) {
+            return NOT_PLAIN;
+        }
+        if (length == TIME_SECONDS_LENGTH) {
+            return 0;
+        }
+
+        int fractionDigits = length - TIME_SECONDS_LENGTH - 1;
+        if (text.charAt(start + TIME_SECONDS_LENGTH) != '.' || fractionDigits < 1
+                || fractionDigits > MAX_FRACTION_DIGITS) {
+            return NOT_PLAIN;
+        }
+        int nano = 0;
+        for (int i = start + TIME_SECONDS_LENGTH + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isAsciiDigit(c)) {
+                return NOT_PLAIN;
+            }
+            nano = nano * 10 + (c - '0');
+        }
+        for (; fractionDigits < MAX_FRACTION_DIGITS; fractionDigits++) {
+            nano *= 10;
+        }
+        return nano;
+    }
+
+    private static boolean isTwoDigits(String text, int start) {
+        return isAsciiDigit(text.charAt(start)) && isAsciiDigit(text.charAt(start + 1));
+    }
+
+    private static int readTwoDigits(String text, int start) {
+        return (text.charAt(start) - '0') * 10 + (text.charAt(start + 1) - '0');
+    }
+
+    private static void writeDate(char[] chars, LocalDate date) {
+        int year = date.getYear();
+        writeTwoDigits(chars, 0, year / 100);
+        writeTwoDigits(chars, 2, year % 100);
+        chars[4] = '-';
+        writeTwoDigits(chars, 5, date.getMonthValue());
+        chars[7] = '-';
+        writeTwoDigits(chars, 8, date.getDayOfMonth());
+    }
+
+    private static int writeTwoDigits(char[] chars, int start, int value) {
+        chars[start] = (char) ('0' + value / 10);
+        chars[start + 1] = (char) ('0' + value % 10);
+        return start + 2;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -16,6 +17,8 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Changes to the address book are saved in the background after the command returns; failures to save are
+     * passed to the handler set by {@link #setSaveFailureHandler(Consumer)}.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -47,4 +50,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given the error message whenever saving the address book fails.
+     * The handler is called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Waits for any pending changes to be saved, then stops saving in the background.
+     */
+    void shutdown();
 }
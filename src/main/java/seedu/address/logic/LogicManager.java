@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,8 +18,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -27,18 +32,26 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String PAYMENTS_LOADING_ERROR_FORMAT = "Could not load payments due to the following error: %s";
+
+    /** The saved version before any save, which matches no address book version as versions are not negative. */
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private volatile boolean hasSaveFailed;
+    private long savedVersion = NOT_SAVED;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new WriteBehindAddressBookSaver(storage, this::handleSaveFailure);
         addressBookParser = new AddressBookParser();
     }
 
@@ -48,19 +61,46 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } catch (PaymentLoadingException e) {
+            logger.warning("Error loading payments: " + e);
+            throw new CommandException(String.format(PAYMENTS_LOADING_ERROR_FORMAT, e.getMessage()), e);
+        }
+
+        // the first command always saves, so that a missing or unreadable data file is replaced
+        long version = model.getAddressBookVersion();
+        if (version != savedVersion || hasSaveFailed) {
+            hasSaveFailed = false;
+            // the snapshot is written in the background while later commands change the model
+            saver.save(model.getAddressBookSnapshot());
+            savedVersion = version;
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void shutdown() {
+        saver.shutdown();
+    }
+
+    private void handleSaveFailure(IOException e) {
+        // makes the next command save again even if it does not change the address book
+        hasSaveFailed = true;
+        if (e instanceof AccessDeniedException) {
+            saveFailureHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -55,16 +55,26 @@ public class AddPaymentCommand extends Command {
 
         List<String> updatedNames = new ArrayList<>();
 
-        for (Index index : indexes) {
-            if (index.getZeroBased() >= list.size()) {
-                throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        // the payment is added to all persons as a single change, or to none of them if any index is invalid
+        model.beginTransaction();
+        try {
+            for (Index index : indexes) {
+                if (index.getZeroBased() >= list.size()) {
+                    throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+
+                // a person listed by several indexes gets a payment for each, so each change builds on the last
+                Person displayed = list.get(index.getZeroBased());
+                Person target = model.getPerson(displayed.getMatriculationNumber()).orElse(displayed);
+                Person updated = target.withAddedPayment(payment);
+
+                model.setPerson(target, updated);
+                updatedNames.add(updated.getName().toString());
             }
-
-            Person target = list.get(index.getZeroBased());
-            Person updated = target.withAddedPayment(payment);
-
-            model.setPerson(target, updated);
-            updatedNames.add(updated.getName().toString());
+            model.commitTransaction();
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
 
         String joinedNames = String.join(", ", updatedNames);
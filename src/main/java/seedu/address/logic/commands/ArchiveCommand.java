@@ -1,7 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ACTIVE_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -77,15 +77,24 @@ public class ArchiveCommand extends Command {
                 String.join(", ", alreadyArchivedNames)));
         }
 
-        // apply updates
+        // apply updates, as a single change to the person list
         List<String> archivedNames = new ArrayList<>(personsToArchive.size());
-        for (Person originalPerson : personsToArchive) {
-            Person archivedPerson = originalPerson.withArchived(true);
-            model.setPerson(originalPerson, archivedPerson);
-            archivedNames.add(archivedPerson.getName().toString());
+        model.beginTransaction();
+        try {
+            for (Person originalPerson : personsToArchive) {
+                // a person listed by several indexes was already changed for an earlier index
+                Person currentPerson = model.getPerson(originalPerson.getMatriculationNumber()).orElse(originalPerson);
+                Person archivedPerson = currentPerson.withArchived(true);
+                model.setPerson(currentPerson, archivedPerson);
+                archivedNames.add(archivedPerson.getName().toString());
+            }
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ACTIVE_PERSONS);
+        model.updateFilteredActivePersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join(", ", archivedNames)));
     }
@@ -48,23 +48,32 @@ public class DeletePaymentCommand extends Command {
 
         List<String> updatedNames = new ArrayList<>();
 
-        for (Index personIndex : personIndexes) {
-            if (personIndex.getZeroBased() >= list.size()) {
-                throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        // the payment is deleted from all persons as a single change, or from none of them if any index is invalid
+        model.beginTransaction();
+        try {
+            for (Index personIndex : personIndexes) {
+                if (personIndex.getZeroBased() >= list.size()) {
+                    throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+
+                // a person listed by several indexes loses a payment for each, so each change builds on the last
+                Person displayed = list.get(personIndex.getZeroBased());
+                Person target = model.getPerson(displayed.getMatriculationNumber()).orElse(displayed);
+                List<Payment> payments = target.getPayments();
+
+                if (paymentIndex.getZeroBased() >= payments.size()) {
+                    throw new CommandException(String.format(MESSAGE_INVALID_PAYMENT_INDEX, target.getName()));
+                }
+
+                Person updated = target.withRemovedPayment(paymentIndex.getZeroBased());
+
+                model.setPerson(target, updated);
+                updatedNames.add(updated.getName().toString());
             }
-
-            Person target = list.get(personIndex.getZeroBased());
-            List<Payment> payments = target.getPayments();
-
-            if (paymentIndex.getZeroBased() >= payments.size()) {
-                throw new CommandException(String.format(MESSAGE_INVALID_PAYMENT_INDEX, target.getName()));
-            }
-
-            Payment toDelete = payments.get(paymentIndex.getZeroBased());
-            Person updated = target.withRemovedPayment(toDelete);
-
-            model.setPerson(target, updated);
-            updatedNames.add(updated.getName().toString());
+            model.commitTransaction();
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
 
         String joinedNames = String.join(", ", updatedNames);
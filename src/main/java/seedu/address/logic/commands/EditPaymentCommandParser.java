@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.EditPaymentCommand;
 import seedu.address.logic.commands.EditPaymentCommand.EditPaymentDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -79,7 +80,7 @@ public class EditPaymentCommandParser implements Parser<EditPaymentCommand> {
 
     private static LocalDate parseDate(String s) throws ParseException {
         try {
-            return LocalDate.parse(s.trim()); // yyyy-MM-dd
+            return DateTimeUtil.parseDate(s.trim()); // yyyy-MM-dd
         } catch (Exception ex) {
             throw new ParseException("Invalid date. Use yyyy-MM-dd, e.g. d/2025-10-15");
         }
@@ -2,12 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.KeywordMatcher;
 
 /**
  * Finds and lists all persons whose names or tags contain any of the argument keywords.
@@ -22,18 +20,20 @@ public class FindCommand extends Command {
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice friend colleague";
 
-    private final Predicate<Person> predicate;
+    private final KeywordMatcher matcher;
 
-    public FindCommand(Predicate<Person> predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FindCommand that finds the persons matched by {@code matcher}.
+     */
+    public FindCommand(KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        this.matcher = matcher;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(
-                Model.PREDICATE_SHOW_ACTIVE_PERSONS.and(predicate) // <- combine here
-        );
+        model.updateFilteredActivePersonListByKeywords(matcher);
         return new CommandResult(String.format(
                 Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -42,13 +42,13 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof FindCommand
-                && predicate.equals(((FindCommand) other).predicate));
+                && matcher.equals(((FindCommand) other).matcher));
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("matcher", matcher)
                 .toString();
     }
 }
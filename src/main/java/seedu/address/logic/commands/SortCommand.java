@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.SortOrder;
+
+/**
+ * Sorts the displayed persons by name, matriculation number, total paid or last payment date.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed persons in ascending order of "
+            + "the specified field. Persons without payments come first when sorting by last payment date.\n"
+            + "Parameters: name | matric | paid | lastpaid\n"
+            + "Example: " + COMMAND_WORD + " name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    private final SortOrder order;
+
+    /**
+     * Creates a SortCommand that sorts the displayed persons in {@code order}.
+     */
+    public SortCommand(SortOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(order);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, order.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return order == otherSortCommand.order;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
+    }
+}
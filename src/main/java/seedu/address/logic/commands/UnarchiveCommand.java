@@ -1,7 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ACTIVE_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -74,15 +74,24 @@ public class UnarchiveCommand extends Command {
                 String.join(", ", notArchivedNames)));
         }
 
-        // apply updates
+        // apply updates, as a single change to the person list
         List<String> unarchivedNames = new ArrayList<>(personsToUnarchive.size());
-        for (Person originalPerson : personsToUnarchive) {
-            Person unarchivedPerson = originalPerson.withArchived(false);
-            model.setPerson(originalPerson, unarchivedPerson);
-            unarchivedNames.add(unarchivedPerson.getName().toString());
+        model.beginTransaction();
+        try {
+            for (Person originalPerson : personsToUnarchive) {
+                // a person listed by several indexes was already changed for an earlier index
+                Person currentPerson = model.getPerson(originalPerson.getMatriculationNumber()).orElse(originalPerson);
+                Person unarchivedPerson = currentPerson.withArchived(false);
+                model.setPerson(currentPerson, unarchivedPerson);
+                unarchivedNames.add(unarchivedPerson.getName().toString());
+            }
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ACTIVE_PERSONS);
+        model.updateFilteredActivePersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join(", ", unarchivedNames)));
     }
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
-import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
@@ -12,6 +11,7 @@ import java.util.stream.Collectors;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.payment.Amount;
 import seedu.address.model.payment.Payment;
 import seedu.address.model.person.Person;
 
@@ -52,21 +52,24 @@ public class ViewPaymentsCommand extends Command {
 
         // 'all' mode: show per-person totals and a grand total
         if (index == null) {
-            String perPerson = people.stream().map(p -> {
-                BigDecimal total = p.getPayments().stream()
-                    .map(pay -> pay.getAmount().asBigDecimal())
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-                return String.format("- %s: %s", p.getName(), total.toPlainString());
-            }).collect(Collectors.joining("\n"));
-
-            BigDecimal grand = people.stream()
-                .flatMap(p -> p.getPayments().stream())
-                .map(pay -> pay.getAmount().asBigDecimal())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            // the displayed list is a subset of the address book, so equal sizes mean everyone is displayed
+            boolean isEveryoneDisplayed = people.size() == model.getAddressBook().getPersonList().size();
+            long grandCents = isEveryoneDisplayed ? model.getTotalPaidCents() : 0;
+
+            StringBuilder perPerson = new StringBuilder();
+            for (Person p : people) {
+                if (perPerson.length() > 0) {
+                    perPerson.append("\n");
+                }
+                perPerson.append("- ").append(p.getName()).append(": ").append(formatTotal(p.getTotalPaidCents()));
+                if (!isEveryoneDisplayed) {
+                    grandCents = Math.addExact(grandCents, p.getTotalPaidCents());
+                }
+            }
 
             String header = String.format("Payments summary for %d people. Grand total: %s",
-                people.size(), grand.toPlainString());
-            return new CommandResult(header + (perPerson.isEmpty() ? "\n(no payments)" : "\n" + perPerson));
+                people.size(), formatTotal(grandCents));
+            return new CommandResult(header + (perPerson.length() == 0 ? "\n(no payments)" : "\n" + perPerson));
         }
 
         // single person mode
@@ -83,10 +86,6 @@ public class ViewPaymentsCommand extends Command {
             return new CommandResult(String.format("%s has no payments recorded.", person.getName()));
         }
 
-        BigDecimal total = sorted.stream()
-            .map(p -> p.getAmount().asBigDecimal())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
         StringBuilder body = new StringBuilder();
         for (int i = 0; i < sorted.size(); i++) {
             Payment p = sorted.get(i);
@@ -105,10 +104,18 @@ public class ViewPaymentsCommand extends Command {
         String list = body.toString();
 
         String header = String.format("Payments for %s (%d). Total: %s",
-            person.getName(), sorted.size(), total.toPlainString());
+            person.getName(), sorted.size(), formatTotal(person.getTotalPaidCents()));
         return new CommandResult(header + "\n" + list);
     }
 
+    /**
+     * Formats a total of {@code cents} cents. Amounts are positive, so a total of zero means there are no payments,
+     * which is shown as a plain 0.
+     */
+    private static String formatTotal(long cents) {
+        return cents == 0 ? "0" : Amount.formatCents(cents);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
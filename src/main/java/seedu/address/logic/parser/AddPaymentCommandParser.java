@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.AddPaymentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.payment.Amount;
@@ -53,14 +54,14 @@ public class AddPaymentCommandParser implements Parser<AddPaymentCommand> {
             String remarks = map.getValue(PREFIX_REMARKS).orElse(null);
 
             Amount amount = Amount.parse(amountStr);
-            LocalDate date = LocalDate.parse(dateStr);
+            LocalDate date = DateTimeUtil.parseDate(dateStr);
 
             return new AddPaymentCommand(indexes, amount, date, remarks);
         } catch (ParseException pe) {
             // rethrow parse errors for index
             throw pe;
         } catch (Exception e) {
-            // Amount.parse / LocalDate.parse etc.
+            // Amount.parse / DateTimeUtil.parseDate etc.
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 AddPaymentCommand.MESSAGE_USAGE), e);
         }
@@ -38,17 +38,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.KeywordMatcher;
 
 /**
  * Parses input arguments and creates a new FindCommand object.
- * Now searches by tag instead of name.
+ * Now searches by tag as well as by name.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
@@ -62,10 +59,6 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
 
-        Predicate<Person> combinedPredicate = person ->
-                new NameContainsKeywordsPredicate(keywords).test(person)
-                        || new TagContainsKeywordsPredicate(keywords).test(person);
-
-        return new FindCommand(combinedPredicate);
+        return new FindCommand(new KeywordMatcher(keywords));
     }
 }
@@ -2,10 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -15,7 +21,15 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // versions are unique across all address books, so a version of one address book is never mistaken for a
+    // version of another
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
+    private long version;
+    // the version when all persons were last replaced, and the version of the last change to each person since
+    private long resetVersion;
+    private final Map<MatriculationNumber, Long> changedPersonVersions = new HashMap<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,14 +42,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        version = lastVersion.incrementAndGet();
+        resetVersion = version;
+    }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * If {@code toBeCopied} is an {@code AddressBook}, the copy has the same version and changes.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
-        resetData(toBeCopied);
+        if (toBeCopied instanceof AddressBook) {
+            AddressBook original = (AddressBook) toBeCopied;
+            persons.setPersons(original.persons);
+            version = original.version;
+            resetVersion = original.resetVersion;
+            changedPersonVersions.putAll(original.changedPersonVersions);
+        } else {
+            resetData(toBeCopied);
+        }
     }
 
     //// list overwrite operations
@@ -43,9 +69,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Duplicates are detected in a single pass and the list is published with a single change event,
+     * so this should be preferred over repeated {@link #addPerson(Person)} calls when loading many persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version = lastVersion.incrementAndGet();
+        resetVersion = version;
+        changedPersonVersions.clear();
     }
 
     /**
@@ -57,6 +88,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Applies {@code changes}, which maps the matriculation number of each changed person to the person it is changed
+     * to, or to null if the person is removed, publishing them as a single change to the person list.
+     * A person with the same matriculation number as a person in the address book replaces that person in place, and
+     * any other person is added last.
+     * Each change must be valid for the persons as changed before it, as the changes applied before an invalid change
+     * are kept.
+     */
+    public void applyChanges(Map<MatriculationNumber, Person> changes) {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        persons.applyChanges(changes);
+        version = lastVersion.incrementAndGet();
+        for (MatriculationNumber matriculationNumber : changes.keySet()) {
+            changedPersonVersions.put(matriculationNumber, version);
+        }
+    }
+
     //// person-level operations
 
     /**
@@ -67,12 +118,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with {@code matriculationNumber}, if there is one.
+     */
+    public Optional<Person> getPerson(MatriculationNumber matriculationNumber) {
+        return persons.get(matriculationNumber);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markChanged(p);
     }
 
     /**
@@ -84,6 +143,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        markChanged(target, editedPerson);
     }
 
     /**
@@ -92,6 +152,49 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markChanged(key);
+    }
+
+    /**
+     * Returns the sum of the amounts of all payments of all persons in the address book, in cents.
+     */
+    public long getTotalPaidCents() {
+        return persons.getTotalPaidCents();
+    }
+
+    /**
+     * Returns the version of this address book.
+     * This increases with every change, so an unchanged version means the address book has not been modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons added, edited or removed since this address book, or the
+     * address book it was copied from, had version {@code sinceVersion}.
+     * Returns an empty {@code Optional} if all persons have been replaced since then, in which case any person may
+     * have changed.
+     */
+    public Optional<Set<MatriculationNumber>> getPersonsChangedSince(long sinceVersion) {
+        return AddressBookSnapshot.getPersonsChangedSince(sinceVersion, version, resetVersion, changedPersonVersions);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the persons in this address book, with its version and the changes to it.
+     * Only the persons and the versions of changed persons are copied, so this is much cheaper than
+     * {@link #AddressBook(ReadOnlyAddressBook)}.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.toArray(), version, resetVersion,
+                new HashMap<>(changedPersonVersions));
+    }
+
+    private void markChanged(Person... changedPersons) {
+        version = lastVersion.incrementAndGet();
+        for (Person person : changedPersons) {
+            changedPersonVersions.put(person.getMatriculationNumber(), version);
+        }
     }
 
     //// util methods
@@ -108,6 +211,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the persons that are not archived, in the same order as in {@link #getPersonList()}.
+     * The list is kept up to date as persons change, without testing every person.
+     */
+    public ObservableList<Person> getActivePersonList() {
+        return persons.getActivePersons();
+    }
+
+    /**
+     * Returns the persons that are archived, in the same order as in {@link #getPersonList()}.
+     * The list is kept up to date as persons change, without testing every person.
+     */
+    public ObservableList<Person> getArchivedPersonList() {
+        return persons.getArchivedPersons();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the persons in an {@code AddressBook} at one version, with the changes made to them.
+ * Unlike a copy made by {@link AddressBook#AddressBook(ReadOnlyAddressBook)}, taking a snapshot only copies the
+ * persons into an array, so the live address book can be saved without building the indexes of a second one.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+    private final long resetVersion;
+    private final Map<MatriculationNumber, Long> changedPersonVersions;
+
+    /**
+     * Creates a snapshot of {@code persons} at {@code version}.
+     * The snapshot takes ownership of {@code persons} and {@code changedPersonVersions}, so neither may be modified
+     * afterwards.
+     */
+    AddressBookSnapshot(Person[] persons, long version, long resetVersion,
+            Map<MatriculationNumber, Long> changedPersonVersions) {
+        requireNonNull(persons);
+        requireNonNull(changedPersonVersions);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(Arrays.asList(persons)));
+        this.version = version;
+        this.resetVersion = resetVersion;
+        this.changedPersonVersions = changedPersonVersions;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the version of the address book when this snapshot was taken.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons added, edited or removed since the address book had version
+     * {@code sinceVersion}, as in {@link AddressBook#getPersonsChangedSince(long)}.
+     */
+    public Optional<Set<MatriculationNumber>> getPersonsChangedSince(long sinceVersion) {
+        return getPersonsChangedSince(sinceVersion, version, resetVersion, changedPersonVersions);
+    }
+
+    /**
+     * Returns the matriculation numbers in {@code changedPersonVersions} with a version after {@code sinceVersion}, or
+     * an empty {@code Optional} if {@code sinceVersion} is not between {@code resetVersion} and {@code version}.
+     */
+    static Optional<Set<MatriculationNumber>> getPersonsChangedSince(long sinceVersion, long version,
+            long resetVersion, Map<MatriculationNumber, Long> changedPersonVersions) {
+        if (sinceVersion < resetVersion || sinceVersion > version) {
+            return Optional.empty();
+        }
+        Set<MatriculationNumber> changed = new HashSet<>();
+        changedPersonVersions.forEach((matriculationNumber, changeVersion) -> {
+            if (changeVersion > sinceVersion) {
+                changed.add(matriculationNumber);
+            }
+        });
+        return Optional.of(changed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable view of the persons in a source list that match a predicate, in the same order.
+ *
+ * Unlike {@link javafx.collections.transformation.FilteredList}, the source list can be replaced, so that the same
+ * view can show the persons of any partition of the address book. Changes to the source list are applied to the view
+ * as they happen, testing only the persons that were added or replaced, and a filter that is known to be narrower
+ * than the current one is applied by testing only the persons in the view.
+ */
+class FilteredPersonList extends ObservableListBase<Person> {
+
+    private final ListChangeListener<Person> sourceListener = this::onSourceChanged;
+    private final List<Person> persons = new ArrayList<>();
+    /** The position in the source list of each person in this view, in increasing order. */
+    private int[] sourcePositions = new int[0];
+    private ObservableList<Person> source;
+    private Predicate<Person> predicate;
+    private long testedCount;
+
+    /**
+     * Creates a view of the persons in {@code source} that match {@code predicate}.
+     */
+    FilteredPersonList(ObservableList<Person> source, Predicate<Person> predicate) {
+        requireAllNonNull(source, predicate);
+        this.source = source;
+        this.predicate = predicate;
+        source.addListener(sourceListener);
+        refilter();
+    }
+
+    /**
+     * Changes this view to show the persons in {@code source} that match {@code predicate}.
+     * Nothing is tested if this view already shows them, as it is kept up to date with the source list.
+     */
+    void setFilter(ObservableList<Person> source, Predicate<Person> predicate) {
+        requireAllNonNull(source, predicate);
+        if (source == this.source && predicate == this.predicate) {
+            return;
+        }
+        if (source != this.source) {
+            this.source.removeListener(sourceListener);
+            source.addListener(sourceListener);
+            this.source = source;
+        }
+        this.predicate = predicate;
+        refilter();
+    }
+
+    /**
+     * Changes this view to show the persons in it that match {@code predicate}, testing only those persons.
+     * {@code predicate} must not match any person in the source list that the current predicate does not match.
+     */
+    void refineFilter(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        int kept = 0;
+        beginChange();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            testedCount++;
+            if (predicate.test(person)) {
+                persons.set(kept, person);
+                sourcePositions[kept] = sourcePositions[i];
+                kept++;
+            } else {
+                // the persons before it that are removed have already been published
+                nextRemove(kept, person);
+            }
+        }
+        persons.subList(kept, persons.size()).clear();
+        sourcePositions = Arrays.copyOf(sourcePositions, kept);
+        endChange();
+    }
+
+    /**
+     * Returns the number of times a person has been tested against a predicate by this view.
+     */
+    long getTestedCount() {
+        return testedCount;
+    }
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Tests every person in the source list again, and publishes the new persons as a single change.
+     */
+    private void refilter() {
+        List<Person> removed = new ArrayList<>(persons);
+        persons.clear();
+        int[] matchingPositions = new int[source.size()];
+        for (int i = 0; i < source.size(); i++) {
+            Person person = source.get(i);
+            testedCount++;
+            if (predicate.test(person)) {
+                matchingPositions[persons.size()] = i;
+                persons.add(person);
+            }
+        }
+        sourcePositions = Arrays.copyOf(matchingPositions, persons.size());
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!persons.isEmpty()) {
+            nextAdd(0, persons.size());
+        }
+        endChange();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // the order of the whole source list may have changed, and a permutation is never combined with
+                // other changes
+                refilter();
+                break;
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    applySourceChange(i, 1, 1);
+                }
+            } else {
+                applySourceChange(change.getFrom(), change.getRemovedSize(), change.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies to this view the replacement of the {@code removedSize} persons from {@code from} in the source list
+     * by the {@code addedSize} persons now at {@code from}.
+     */
+    private void applySourceChange(int from, int removedSize, int addedSize) {
+        int start = findFirstAtOrAfter(from);
+        int end = findFirstAtOrAfter(from + removedSize);
+
+        int[] addedPositions = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            testedCount++;
+            if (predicate.test(source.get(i))) {
+                addedPositions[addedCount++] = i;
+            }
+        }
+
+        // the positions of the persons after the change move by the difference in size
+        int shift = addedSize - removedSize;
+        int tailLength = persons.size() - end;
+        int[] newSourcePositions = addedCount == end - start
+                ? sourcePositions
+                : new int[start + addedCount + tailLength];
+        if (newSourcePositions != sourcePositions) {
+            System.arraycopy(sourcePositions, 0, newSourcePositions, 0, start);
+            System.arraycopy(sourcePositions, end, newSourcePositions, start + addedCount, tailLength);
+        }
+        System.arraycopy(addedPositions, 0, newSourcePositions, start, addedCount);
+        if (shift != 0) {
+            for (int i = start + addedCount; i < newSourcePositions.length; i++) {
+                newSourcePositions[i] += shift;
+            }
+        }
+        sourcePositions = newSourcePositions;
+
+        if (end > start) {
+            List<Person> removedRange = persons.subList(start, end);
+            List<Person> removed = new ArrayList<>(removedRange);
+            removedRange.clear();
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            List<Person> added = new ArrayList<>(addedCount);
+            for (int i = 0; i < addedCount; i++) {
+                added.add(source.get(addedPositions[i]));
+            }
+            persons.addAll(start, added);
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Returns the index in this view of the first person at or after {@code sourcePosition} in the source list.
+     */
+    private int findFirstAtOrAfter(int sourcePosition) {
+        int index = Arrays.binarySearch(sourcePositions, sourcePosition);
+        return index >= 0 ? index : -(index + 1);
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.KeywordMatcher;
+import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
 
 /**
  * The API of the Model component.
@@ -59,11 +63,21 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unmodifiable copy of the address book that later changes to the address book do not affect.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with {@code matriculationNumber}, if there is one.
+     */
+    Optional<Person> getPerson(MatriculationNumber matriculationNumber);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -84,6 +98,44 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a transaction, after which persons added, deleted or replaced are only staged until
+     * {@link #commitTransaction()}. Each change is checked against the persons as staged so far, so an invalid change
+     * fails before anything is applied.
+     * While the transaction is in progress, {@link #hasPerson(Person)} and {@link #getPerson(MatriculationNumber)}
+     * see the staged persons, but the address book and the filtered person list do not.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Applies the changes staged since {@link #beginTransaction()} to the address book as a single change to the
+     * person list, and ends the transaction. Only the persons changed are updated, and a person whose matriculation
+     * number was changed is moved to the end of the person list.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards the changes staged since {@link #beginTransaction()}, and ends the transaction.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns the sum of the amounts of all payments of all persons in the address book, in cents.
+     */
+    long getTotalPaidCents();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * The address book is unchanged if this returns the same number as before.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -95,4 +147,37 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons that are not archived and match
+     * {@code predicate}. Archived persons are not tested.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredActivePersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons that are not archived and match
+     * {@code matcher}. If the list shows the persons matching keywords that {@code matcher} is narrower than, only
+     * the persons shown are tested.
+     *
+     * @throws NullPointerException if {@code matcher} is null.
+     */
+    void updateFilteredActivePersonListByKeywords(KeywordMatcher matcher);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons that are archived and match
+     * {@code predicate}. Persons that are not archived are not tested.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredArchivedPersonList(Predicate<Person> predicate);
+
+    /**
+     * Sorts the filtered person list in {@code order}. The list stays sorted as persons are changed and as its
+     * filter is updated.
+     *
+     * @throws NullPointerException if {@code order} is null.
+     */
+    void sortFilteredPersonList(SortOrder order);
 }
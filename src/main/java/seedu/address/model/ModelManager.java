@@ -4,14 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.KeywordMatcher;
+import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SortOrder;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +31,15 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final SortedPersonList sortedPersons;
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    // while a transaction is in progress, the persons changed in it by matriculation number, mapped to null if
+    // removed, and the updates to the search index that follow from the changes
+    private Map<MatriculationNumber, Person> stagedPersons;
+    private final List<Runnable> stagedSearchIndexUpdates = new ArrayList<>();
+    // the keywords that the filtered person list shows the matching active persons of, if it does
+    private KeywordMatcher filteredKeywords;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +51,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        sortedPersons = new SortedPersonList(filteredPersons);
+        searchIndex.setPersons(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -80,6 +100,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        searchIndex.setPersons(this.addressBook.getPersonList());
     }
 
     @Override
@@ -87,20 +108,50 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return getPerson(person.getMatriculationNumber()).isPresent();
+    }
+
+    @Override
+    public Optional<Person> getPerson(MatriculationNumber matriculationNumber) {
+        requireNonNull(matriculationNumber);
+        if (stagedPersons != null && stagedPersons.containsKey(matriculationNumber)) {
+            return Optional.ofNullable(stagedPersons.get(matriculationNumber));
+        }
+        return addressBook.getPerson(matriculationNumber);
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        if (stagedPersons == null) {
+            addressBook.removePerson(target);
+            searchIndex.remove(target);
+            return;
+        }
+        requireStagedPerson(target);
+        stagedPersons.put(target.getMatriculationNumber(), null);
+        stagedSearchIndexUpdates.add(() -> searchIndex.remove(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        if (stagedPersons == null) {
+            addressBook.addPerson(person);
+            searchIndex.add(person);
+        } else {
+            if (hasPerson(person)) {
+                throw new DuplicatePersonException();
+            }
+            stagedPersons.put(person.getMatriculationNumber(), person);
+            stagedSearchIndexUpdates.add(() -> searchIndex.add(person));
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -108,7 +159,74 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        if (stagedPersons == null) {
+            addressBook.setPerson(target, editedPerson);
+            searchIndex.setPerson(target, editedPerson);
+            return;
+        }
+        requireStagedPerson(target);
+        if (!target.isSamePerson(editedPerson)) {
+            if (hasPerson(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            stagedPersons.put(target.getMatriculationNumber(), null);
+        }
+        stagedPersons.put(editedPerson.getMatriculationNumber(), editedPerson);
+        stagedSearchIndexUpdates.add(() -> searchIndex.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (stagedPersons != null) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        stagedPersons = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        addressBook.applyChanges(stagedPersons);
+        stagedSearchIndexUpdates.forEach(Runnable::run);
+        endTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        endTransaction();
+    }
+
+    private void requireTransaction() {
+        if (stagedPersons == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+    }
+
+    private void endTransaction() {
+        stagedPersons = null;
+        stagedSearchIndexUpdates.clear();
+    }
+
+    /**
+     * Throws {@code PersonNotFoundException} unless {@code person} is equal to the person with its matriculation
+     * number as staged, as the address book requires of a person it replaces or removes.
+     */
+    private void requireStagedPerson(Person person) {
+        requireNonNull(person);
+        if (!getPerson(person.getMatriculationNumber()).map(person::equals).orElse(false)) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    @Override
+    public long getTotalPaidCents() {
+        return addressBook.getTotalPaidCents();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -119,13 +237,54 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(addressBook.getPersonList(), predicate);
+    }
+
+    @Override
+    public void updateFilteredActivePersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        setFilter(addressBook.getActivePersonList(), predicate);
+    }
+
+    @Override
+    public void updateFilteredActivePersonListByKeywords(KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        Predicate<Person> predicate = searchIndex.find(matcher);
+        if (filteredKeywords == null || !matcher.isNarrowerThan(filteredKeywords)) {
+            setFilter(addressBook.getActivePersonList(), predicate);
+        } else {
+            long testedCount = filteredPersons.getTestedCount();
+            filteredPersons.refineFilter(predicate);
+            logger.fine("Refined filtered person list, testing "
+                    + (filteredPersons.getTestedCount() - testedCount) + " persons");
+        }
+        filteredKeywords = matcher;
+    }
+
+    @Override
+    public void updateFilteredArchivedPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        setFilter(addressBook.getArchivedPersonList(), predicate);
+    }
+
+    @Override
+    public void sortFilteredPersonList(SortOrder order) {
+        requireNonNull(order);
+        sortedPersons.setOrder(order);
+    }
+
+    private void setFilter(ObservableList<Person> source, Predicate<Person> predicate) {
+        long testedCount = filteredPersons.getTestedCount();
+        filteredPersons.setFilter(source, predicate);
+        filteredKeywords = null;
+        logger.fine("Updated filtered person list, testing " + (filteredPersons.getTestedCount() - testedCount)
+                + " persons");
     }
 
     @Override
@@ -142,7 +301,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
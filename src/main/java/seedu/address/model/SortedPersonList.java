@@ -0,0 +1,288 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+
+/**
+ * An unmodifiable view of the persons in a source list, sorted in a {@link SortOrder}, or in the same order as the
+ * source list until an order is set.
+ *
+ * Unlike {@link javafx.collections.transformation.SortedList}, the value each person is sorted by is computed once,
+ * when the person enters the view, and names are compared by their precomputed {@link CollationKey}s rather than by
+ * collating the names on every comparison. When a few persons in the source list change, only those persons are
+ * moved, each to the position found by a binary search.
+ */
+class SortedPersonList extends ObservableListBase<Person> {
+
+    /** Beyond this many persons added and removed at once, sorting every person again is cheaper. */
+    private static final int MAX_INCREMENTAL_CHANGES = 32;
+
+    private final Collator collator = Collator.getInstance();
+    private final Comparator<Entry> comparator = this::compare;
+    private final ObservableList<Person> source;
+    private final List<Entry> entries = new ArrayList<>();
+    /** The entry of each person in this view, while it is sorted. */
+    private final Map<Person, Entry> entriesByPerson = new IdentityHashMap<>();
+    private SortOrder order;
+
+    /**
+     * Creates a view of the persons in {@code source}, in the same order.
+     */
+    SortedPersonList(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::onSourceChanged);
+        for (Person person : source) {
+            entries.add(new Entry(person, null, 0));
+        }
+    }
+
+    /**
+     * Sorts this view in {@code order}, and keeps it sorted as the source list changes.
+     */
+    void setOrder(SortOrder order) {
+        requireNonNull(order);
+        if (order == this.order) {
+            return;
+        }
+        this.order = order;
+        entriesByPerson.clear();
+        resort();
+    }
+
+    @Override
+    public Person get(int index) {
+        return entries.get(index).person;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        if (order == null) {
+            applyInSourceOrder(change);
+        } else if (countChanges(change) > MAX_INCREMENTAL_CHANGES) {
+            resort();
+        } else {
+            applySorted(change);
+        }
+        endChange();
+    }
+
+    private void applyInSourceOrder(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<Entry> permuted = new ArrayList<>(entries.subList(from, change.getTo()));
+                int[] permutation = new int[change.getTo() - from];
+                for (int i = from; i < change.getTo(); i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                    entries.set(change.getPermutation(i), permuted.get(i - from));
+                }
+                nextPermutation(from, change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    entries.subList(from, from + change.getRemovedSize()).clear();
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    List<Entry> added = new ArrayList<>(change.getAddedSize());
+                    for (Person person : change.getAddedSubList()) {
+                        added.add(new Entry(person, null, 0));
+                    }
+                    entries.addAll(from, added);
+                    nextAdd(from, change.getTo());
+                }
+            }
+        }
+    }
+
+    private static int countChanges(ListChangeListener.Change<? extends Person> change) {
+        int count = 0;
+        while (change.next()) {
+            if (!change.wasPermutated() && !change.wasUpdated()) {
+                count += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        change.reset();
+        return count;
+    }
+
+    /**
+     * Moves only the persons that were added to or removed from the source list. The order of the source list does
+     * not matter to this view, so permutations are ignored.
+     */
+    private void applySorted(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    Person person = source.get(i);
+                    replace(person, person);
+                }
+                continue;
+            }
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.wasAdded() ? change.getAddedSubList() : List.of();
+            if (removed.size() == 1 && added.size() == 1) {
+                replace(removed.get(0), added.get(0));
+                continue;
+            }
+            for (Person person : removed) {
+                int index = indexOf(entriesByPerson.remove(person));
+                entries.remove(index);
+                nextRemove(index, person);
+            }
+            for (Person person : added) {
+                insert(createEntry(person));
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, in place if {@code editedPerson} sorts to the same position.
+     */
+    private void replace(Person target, Person editedPerson) {
+        int index = indexOf(entriesByPerson.remove(target));
+        Entry edited = createEntry(editedPerson);
+        boolean isInPlace = (index == 0 || compare(entries.get(index - 1), edited) < 0)
+                && (index == entries.size() - 1 || compare(edited, entries.get(index + 1)) < 0);
+        if (isInPlace) {
+            entries.set(index, edited);
+            nextSet(index, target);
+        } else {
+            entries.remove(index);
+            nextRemove(index, target);
+            insert(edited);
+        }
+    }
+
+    private void insert(Entry entry) {
+        int index = -(Collections.binarySearch(entries, entry, comparator) + 1);
+        if (index < 0) {
+            // an entry that compares equal is already in this view, which only happens for persons with the same
+            // matriculation number while the source list is being changed
+            index = -index - 1;
+        }
+        entries.add(index, entry);
+        nextAdd(index, index + 1);
+    }
+
+    /**
+     * Returns the index of {@code entry} in this view.
+     */
+    private int indexOf(Entry entry) {
+        int index = Collections.binarySearch(entries, entry, comparator);
+        if (index >= 0 && entries.get(index) == entry) {
+            return index;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == entry) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Person is not in this view: " + entry.person);
+    }
+
+    /**
+     * Sorts every person in the source list again, reusing the keys of the persons already in this view, and
+     * publishes the new order as a single change.
+     */
+    private void resort() {
+        Map<Person, Entry> previousEntries = new IdentityHashMap<>(entriesByPerson);
+        entriesByPerson.clear();
+        List<Person> removed = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            removed.add(entry.person);
+        }
+
+        entries.clear();
+        for (Person person : source) {
+            Entry entry = previousEntries.get(person);
+            if (entry == null) {
+                entry = createEntry(person);
+            } else {
+                entriesByPerson.put(person, entry);
+            }
+            entries.add(entry);
+        }
+        entries.sort(comparator);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!entries.isEmpty()) {
+            nextAdd(0, entries.size());
+        }
+        endChange();
+    }
+
+    private Entry createEntry(Person person) {
+        Entry entry;
+        switch (order) {
+        case NAME:
+            entry = new Entry(person, collator.getCollationKey(person.getName().fullName), 0);
+            break;
+        case TOTAL_PAID:
+            entry = new Entry(person, null, person.getTotalPaidCents());
+            break;
+        case LAST_PAYMENT_DATE:
+            entry = new Entry(person, null, person.getLastPaymentEpochDay());
+            break;
+        default:
+            entry = new Entry(person, null, 0);
+            break;
+        }
+        entriesByPerson.put(person, entry);
+        return entry;
+    }
+
+    private int compare(Entry first, Entry second) {
+        int result = order == SortOrder.NAME
+                ? first.nameKey.compareTo(second.nameKey)
+                : Long.compare(first.value, second.value);
+        if (result != 0) {
+            return result;
+        }
+        return first.person.getMatriculationNumber().value.compareTo(second.person.getMatriculationNumber().value);
+    }
+
+    /**
+     * A person in this view, with the key it is sorted by.
+     */
+    private static class Entry {
+        private final Person person;
+        private final CollationKey nameKey;
+        private final long value;
+
+        Entry(Person person, CollationKey nameKey, long value) {
+            this.person = person;
+            this.nameKey = nameKey;
+            this.value = value;
+        }
+    }
+}
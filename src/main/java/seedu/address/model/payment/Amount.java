@@ -1,7 +1,8 @@
 package seedu.address.model.payment;
 
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Objects;
 
 /**
@@ -9,17 +10,36 @@ import java.util.Objects;
  * Rules:
  * - strictly positive
  * - at most 2 decimal places
- * - stored at fixed scale of 2 without rounding
+ * - stored as a whole number of cents without rounding
  */
 public final class Amount implements Comparable<Amount> {
     public static final String MESSAGE_CONSTRAINTS =
         "Invalid amount (must be positive, up to 2 decimal places).";
     public static final int SCALE = 2;
 
-    private final BigDecimal value;
+    private static final long CENTS_PER_UNIT = 100;
+    /** Any whole number of up to this many digits can be converted to cents without overflowing a long. */
+    private static final int MAX_PLAIN_UNIT_DIGITS = 16;
+    private static final long NOT_PLAIN = -1;
+
+    private final long cents;
 
     public Amount(BigDecimal value) {
-        this.value = normalize(value);
+        this.cents = toCents(value);
+    }
+
+    private Amount(long cents) {
+        if (cents <= 0) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        this.cents = cents;
+    }
+
+    /**
+     * Returns an {@code Amount} of {@code cents} cents, which must be positive.
+     */
+    public static Amount ofCents(long cents) {
+        return new Amount(cents);
     }
 
     /**
@@ -30,6 +50,12 @@ public final class Amount implements Comparable<Amount> {
             throw new NullPointerException("raw");
         }
         String s = raw.trim();
+        long plainCents = parsePlainCents(s);
+        if (plainCents != NOT_PLAIN) {
+            return new Amount(plainCents);
+        }
+
+        // anything else that BigDecimal accepts, e.g. exponents or other signs, is checked the long way
         try {
             return new Amount(new BigDecimal(s));
         } catch (NumberFormatException nfe) {
@@ -37,21 +63,64 @@ public final class Amount implements Comparable<Amount> {
         }
     }
 
+    /**
+     * Returns the amount as a whole number of cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
     /**
      * Internal BigDecimal at scale 2.
      */
     public BigDecimal asBigDecimal() {
-        return value;
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     *
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public Amount add(Amount other) {
+        return new Amount(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns the difference of this amount and {@code other}.
+     *
+     * @throws IllegalArgumentException if the difference is not positive.
+     * @throws ArithmeticException if the difference overflows.
+     */
+    public Amount subtract(Amount other) {
+        return new Amount(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Formats {@code cents} cents as a plain decimal string with 2 decimal places, such as "12.34".
+     */
+    public static String formatCents(long cents) {
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        long fraction = Math.abs(cents % CENTS_PER_UNIT);
+        StringBuilder sb = new StringBuilder(24);
+        if (cents < 0) {
+            sb.append('-');
+        }
+        sb.append(units).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
     }
 
     @Override
     public String toString() {
-        return value.toPlainString();
+        return formatCents(cents);
     }
 
     @Override
     public int compareTo(Amount other) {
-        return this.value.compareTo(other.value);
+        return Long.compare(cents, other.cents);
     }
 
     @Override
@@ -63,17 +132,17 @@ public final class Amount implements Comparable<Amount> {
             return false;
         }
         Amount other = (Amount) o;
-        return value.equals(other.value);
+        return cents == other.cents;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 
     // ---------- helpers ----------
 
-    private static BigDecimal normalize(BigDecimal input) {
+    private static long toCents(BigDecimal input) {
         Objects.requireNonNull(input, "value");
         if (input.signum() <= 0) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
@@ -82,6 +151,52 @@ public final class Amount implements Comparable<Amount> {
             // do not round silently
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        return input.setScale(SCALE, RoundingMode.UNNECESSARY);
+        try {
+            return input.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException ae) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, ae);
+        }
+    }
+
+    /**
+     * Returns the number of cents in {@code s} if it is a plain decimal such as "12", "+12.3" or ".34" with at most
+     * 2 decimal places, or {@code NOT_PLAIN} otherwise.
+     */
+    private static long parsePlainCents(String s) {
+        int length = s.length();
+        int i = (length > 0 && s.charAt(0) == '+') ? 1 : 0;
+
+        long units = 0;
+        int unitDigits = 0;
+        while (i < length && isAsciiDigit(s.charAt(i))) {
+            if (unitDigits == MAX_PLAIN_UNIT_DIGITS) {
+                return NOT_PLAIN;
+            }
+            units = units * 10 + (s.charAt(i) - '0');
+            unitDigits++;
+            i++;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (i < length && s.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(s.charAt(i))) {
+                if (fractionDigits == SCALE) {
+                    return NOT_PLAIN;
+                }
+                fraction = fraction * 10 + (s.charAt(i) - '0');
+                fractionDigits++;
+                i++;
+            }
+        }
+
+        if (i != length || unitDigits + fractionDigits == 0) {
+            return NOT_PLAIN;
+        }
+        for (; fractionDigits < SCALE; fractionDigits++) {
+            fraction *= 10;
+        }
+        return units * CENTS_PER_UNIT + fraction;
     }
 }
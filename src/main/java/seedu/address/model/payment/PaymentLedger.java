@@ -0,0 +1,623 @@
+package seedu.address.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * An immutable list of payments stored column by column in primitive arrays, rather than as {@code Payment} objects.
+ * Each payment takes a fixed 32 bytes across the columns, and its remarks are stored as an id into a dictionary
+ * shared by all ledgers, so equal remarks are kept once. {@link #get(int)} creates the {@code Payment} for a row on
+ * demand, while the column accessors such as {@link #getCents(int)} read a row without creating any objects.
+ *
+ * The columns are split into chunks of at most {@value #CHUNK_SIZE} payments, which ledgers derived from one another
+ * share. Each chunk keeps all of its columns in a single array, and a ledger with a single chunk holds it without a
+ * directory, so a short history costs three objects: the ledger, its chunk and the chunk's array.
+ * Appending with {@link #withAppended(Payment)} writes to the last chunk in place and is amortised O(1).
+ * Replacing or removing a payment copies only the chunk holding it, plus one reference per chunk.
+ *
+ * The mutator methods of {@code List} throw {@code UnsupportedOperationException}.
+ */
+public final class PaymentLedger extends AbstractList<Payment> {
+
+    /** The value of {@link #getLastEpochDay()} for an empty ledger, which is before the day of any payment. */
+    public static final long NO_PAYMENT_EPOCH_DAY = Long.MIN_VALUE;
+
+    /** The most payments a chunk holds. */
+    private static final int CHUNK_SIZE = 64;
+    private static final int MIN_DIRECTORY_CAPACITY = 4;
+    private static final RemarksDictionary REMARKS = new RemarksDictionary();
+    private static final PaymentLedger EMPTY = new PaymentLedger(null, null, 0, 0);
+
+    // a ledger with more than one chunk holds them in directory, and any other ledger holds its chunk, if any, in chunk
+    private final Directory directory;
+    private final Chunk chunk;
+    private final int chunkCount;
+    private final int size;
+
+    private PaymentLedger(Directory directory, Chunk chunk, int chunkCount, int size) {
+        this.directory = directory;
+        this.chunk = chunk;
+        this.chunkCount = chunkCount;
+        this.size = size;
+    }
+
+    private static PaymentLedger ofChunk(Chunk chunk, int size) {
+        return new PaymentLedger(null, chunk, 1, size);
+    }
+
+    /**
+     * Returns a ledger holding the first {@code chunkCount} chunks of {@code directory}, without the directory if
+     * there is only one.
+     */
+    private static PaymentLedger ofDirectory(Directory directory, int chunkCount, int size) {
+        if (chunkCount == 1) {
+            return ofChunk(directory.chunks[0], size);
+        }
+        return new PaymentLedger(directory, null, chunkCount, size);
+    }
+
+    /**
+     * Returns an empty ledger.
+     */
+    public static PaymentLedger empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a ledger containing {@code payments} in iteration order.
+     * Returns {@code payments} itself if it is already a {@code PaymentLedger}.
+     */
+    public static PaymentLedger copyOf(Collection<Payment> payments) {
+        requireNonNull(payments);
+        if (payments instanceof PaymentLedger) {
+            return (PaymentLedger) payments;
+        }
+        if (payments.isEmpty()) {
+            return EMPTY;
+        }
+        int size = payments.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Directory directory = new Directory(chunkCount);
+        Iterator<Payment> iterator = payments.iterator();
+        for (int i = 0; i < chunkCount; i++) {
+            int rows = Math.min(CHUNK_SIZE, size - i * CHUNK_SIZE);
+            Chunk chunk = new Chunk(rows);
+            for (int row = 0; row < rows; row++) {
+                chunk.write(row, iterator.next());
+            }
+            chunk.claimed = rows;
+            directory.chunks[i] = chunk;
+            directory.starts[i] = i * CHUNK_SIZE;
+        }
+        directory.claimed = chunkCount;
+        return ofDirectory(directory, chunkCount, size);
+    }
+
+    /**
+     * Returns a new ledger with {@code payment} appended to the end of this ledger.
+     */
+    public PaymentLedger withAppended(Payment payment) {
+        requireNonNull(payment);
+        if (size == 0) {
+            Chunk first = new Chunk(1);
+            first.write(0, payment);
+            first.claimed = 1;
+            return ofChunk(first, 1);
+        }
+
+        int last = chunkCount - 1;
+        Chunk lastChunk = chunkAt(last);
+        int rows = size - startOf(last);
+        // the first ledger to claim the free row after its last row may write to it without copying, as no other
+        // ledger can read that row
+        if (rows < lastChunk.capacity() && lastChunk.claim(rows)) {
+            lastChunk.write(rows, payment);
+            return new PaymentLedger(directory, chunk, chunkCount, size + 1);
+        }
+        if (rows < CHUNK_SIZE) {
+            Chunk copy = lastChunk.copyOf(rows, Math.min(CHUNK_SIZE, rows * 2));
+            copy.write(rows, payment);
+            copy.claimed = rows + 1;
+            return withChunk(last, copy, size + 1);
+        }
+
+        Chunk next = new Chunk(CHUNK_SIZE);
+        next.write(0, payment);
+        next.claimed = 1;
+        Directory appended = directory == null
+                ? Directory.of(chunk).withAppended(1, next, size)
+                : directory.withAppended(chunkCount, next, size);
+        return new PaymentLedger(appended, null, chunkCount + 1, size + 1);
+    }
+
+    /**
+     * Returns a new ledger with the payment at {@code index} replaced by {@code payment}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PaymentLedger withReplaced(int index, Payment payment) {
+        Objects.checkIndex(index, size);
+        requireNonNull(payment);
+        int chunkIndex = chunkOf(index);
+        int rows = rowsIn(chunkIndex);
+        Chunk copy = chunkAt(chunkIndex).copyOf(rows, rows);
+        copy.write(index - startOf(chunkIndex), payment);
+        copy.claimed = rows;
+        return withChunk(chunkIndex, copy, size);
+    }
+
+    /**
+     * Returns a new ledger with the payment at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PaymentLedger withRemoved(int index) {
+        Objects.checkIndex(index, size);
+        if (size == 1) {
+            return EMPTY;
+        }
+        int chunkIndex = chunkOf(index);
+        int rows = rowsIn(chunkIndex);
+        if (rows == 1) {
+            return ofDirectory(directory.withoutChunk(chunkCount, chunkIndex), chunkCount - 1, size - 1);
+        }
+        Chunk copy = chunkAt(chunkIndex).copyOf(rows, rows - 1, index - startOf(chunkIndex));
+        copy.claimed = rows - 1;
+        if (directory == null) {
+            return ofChunk(copy, size - 1);
+        }
+        Directory removed = directory.withChunk(chunkCount, chunkIndex, copy);
+        for (int i = chunkIndex + 1; i < chunkCount; i++) {
+            removed.starts[i]--;
+        }
+        return new PaymentLedger(removed, null, chunkCount, size - 1);
+    }
+
+    /**
+     * Returns a ledger of {@code size} payments with the chunk at {@code chunkIndex} replaced by {@code replacement}.
+     */
+    private PaymentLedger withChunk(int chunkIndex, Chunk replacement, int size) {
+        if (directory == null) {
+            return ofChunk(replacement, size);
+        }
+        return new PaymentLedger(directory.withChunk(chunkCount, chunkIndex, replacement), null, chunkCount, size);
+    }
+
+    @Override
+    public Payment get(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = chunkOf(index);
+        Chunk chunk = chunkAt(chunkIndex);
+        int row = index - startOf(chunkIndex);
+        return new Payment(Amount.ofCents(chunk.getCents(row)), LocalDate.ofEpochDay(chunk.getEpochDay(row)),
+                chunk.getRemarks(row), chunk.getRecordedAt(row));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the amount of the payment at {@code index} in cents.
+     */
+    public long getCents(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = chunkOf(index);
+        return chunkAt(chunkIndex).getCents(index - startOf(chunkIndex));
+    }
+
+    /**
+     * Returns the date of the payment at {@code index} as a day count from the epoch, as in
+     * {@link LocalDate#toEpochDay()}.
+     */
+    public long getEpochDay(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = chunkOf(index);
+        return chunkAt(chunkIndex).getEpochDay(index - startOf(chunkIndex));
+    }
+
+    /**
+     * Returns the remarks of the payment at {@code index}, or null if it has none.
+     */
+    public String getRemarks(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = chunkOf(index);
+        return chunkAt(chunkIndex).getRemarks(index - startOf(chunkIndex));
+    }
+
+    /**
+     * Returns the time the payment at {@code index} was recorded.
+     */
+    public LocalDateTime getRecordedAt(int index) {
+        Objects.checkIndex(index, size);
+        int chunkIndex = chunkOf(index);
+        return chunkAt(chunkIndex).getRecordedAt(index - startOf(chunkIndex));
+    }
+
+    /**
+     * Returns the latest date of the payments in this ledger as a day count from the epoch, or
+     * {@link #NO_PAYMENT_EPOCH_DAY} if this ledger is empty.
+     */
+    public long getLastEpochDay() {
+        long last = NO_PAYMENT_EPOCH_DAY;
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = chunkAt(i);
+            long[] columns = chunk.columns;
+            int from = chunk.offsetOf(Chunk.EPOCH_DAY);
+            int to = from + rowsIn(i);
+            for (int j = from; j < to; j++) {
+                last = Math.max(last, columns[j]);
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Returns the sum of the amounts of all payments in this ledger, in cents.
+     *
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public long sumCents() {
+        long total = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = chunkAt(i);
+            long[] columns = chunk.columns;
+            int from = chunk.offsetOf(Chunk.CENTS);
+            int to = from + rowsIn(i);
+            for (int j = from; j < to; j++) {
+                total = Math.addExact(total, columns[j]);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of payments from {@code from} in this ledger that are equal, in order, to the payments from
+     * {@code otherFrom} in {@code other}, up to the first payment that differs or the end of either ledger.
+     * The rows of a chunk shared by both ledgers are not compared, so comparing a ledger with one derived from it
+     * takes about one step per chunk.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} or {@code otherFrom} is beyond the end of its ledger.
+     */
+    public int matchingLength(int from, PaymentLedger other, int otherFrom) {
+        requireNonNull(other);
+        Objects.checkIndex(from, size + 1);
+        Objects.checkIndex(otherFrom, other.size + 1);
+        int length = Math.min(size - from, other.size - otherFrom);
+        int matched = 0;
+        while (matched < length) {
+            int chunkIndex = chunkOf(from + matched);
+            int otherChunkIndex = other.chunkOf(otherFrom + matched);
+            Chunk chunk = chunkAt(chunkIndex);
+            Chunk otherChunk = other.chunkAt(otherChunkIndex);
+            int row = from + matched - startOf(chunkIndex);
+            int otherRow = otherFrom + matched - other.startOf(otherChunkIndex);
+            int rows = Math.min(length - matched,
+                    Math.min(rowsIn(chunkIndex) - row, other.rowsIn(otherChunkIndex) - otherRow));
+            if (chunk != otherChunk || row != otherRow) {
+                for (int i = 0; i < rows; i++) {
+                    if (!chunk.rowEquals(row + i, otherChunk, otherRow + i)) {
+                        return matched + i;
+                    }
+                }
+            }
+            matched += rows;
+        }
+        return matched;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Payment)) {
+            return -1;
+        }
+        Payment payment = (Payment) o;
+        int remarkId = REMARKS.find(payment.getRemarks());
+        if (remarkId == RemarksDictionary.NOT_FOUND) {
+            // no payment in any ledger has these remarks
+            return -1;
+        }
+        Chunk row = new Chunk(1);
+        row.write(0, payment, remarkId);
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = chunkAt(i);
+            int rows = rowsIn(i);
+            for (int j = 0; j < rows; j++) {
+                if (chunk.rowEquals(j, row, 0)) {
+                    return startOf(i) + j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    private Chunk chunkAt(int chunkIndex) {
+        return directory == null ? chunk : directory.chunks[chunkIndex];
+    }
+
+    /**
+     * Returns the index of the first payment in the chunk at {@code chunkIndex}.
+     */
+    private int startOf(int chunkIndex) {
+        return directory == null ? 0 : directory.starts[chunkIndex];
+    }
+
+    /**
+     * Returns the index of the chunk holding the payment at {@code index}.
+     */
+    private int chunkOf(int index) {
+        if (directory == null) {
+            return 0;
+        }
+        int found = Arrays.binarySearch(directory.starts, 0, chunkCount, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * Returns the number of payments of this ledger in the chunk at {@code chunkIndex}.
+     */
+    private int rowsIn(int chunkIndex) {
+        int end = chunkIndex == chunkCount - 1 ? size : startOf(chunkIndex + 1);
+        return end - startOf(chunkIndex);
+    }
+
+    /**
+     * The chunks of a ledger with more than one chunk, with the index of the first payment in each, which may be
+     * shared by several ledgers with different numbers of chunks. Chunks below {@code claimed} belong to at least one
+     * ledger and are never written again.
+     */
+    private static final class Directory {
+        private static final AtomicIntegerFieldUpdater<Directory> CLAIMED =
+                AtomicIntegerFieldUpdater.newUpdater(Directory.class, "claimed");
+
+        private final Chunk[] chunks;
+        private final int[] starts;
+        private volatile int claimed;
+
+        private Directory(int capacity) {
+            chunks = new Chunk[capacity];
+            starts = new int[capacity];
+        }
+
+        /**
+         * Returns a new directory holding only {@code chunk}.
+         */
+        private static Directory of(Chunk chunk) {
+            Directory directory = new Directory(MIN_DIRECTORY_CAPACITY);
+            directory.chunks[0] = chunk;
+            directory.claimed = 1;
+            return directory;
+        }
+
+        private int capacity() {
+            return chunks.length;
+        }
+
+        /**
+         * Returns a new directory holding the first {@code chunkCount} chunks of this directory, with the chunk at
+         * {@code chunkIndex} replaced by {@code chunk}.
+         */
+        private Directory withChunk(int chunkCount, int chunkIndex, Chunk chunk) {
+            Directory copy = copyOf(chunkCount, chunkCount);
+            copy.chunks[chunkIndex] = chunk;
+            copy.claimed = chunkCount;
+            return copy;
+        }
+
+        /**
+         * Returns a directory holding the first {@code chunkCount} chunks of this directory followed by
+         * {@code chunk}, whose first payment is at {@code start}. Returns this directory if no other ledger has
+         * claimed the free chunk after its first {@code chunkCount} chunks.
+         */
+        private Directory withAppended(int chunkCount, Chunk chunk, int start) {
+            Directory appended = this;
+            if (chunkCount >= capacity() || !CLAIMED.compareAndSet(this, chunkCount, chunkCount + 1)) {
+                appended = copyOf(chunkCount, Math.max(MIN_DIRECTORY_CAPACITY, chunkCount * 2));
+                appended.claimed = chunkCount + 1;
+            }
+            appended.chunks[chunkCount] = chunk;
+            appended.starts[chunkCount] = start;
+            return appended;
+        }
+
+        /**
+         * Returns a new directory holding the first {@code chunkCount} chunks of this directory except the chunk at
+         * {@code chunkIndex}, which holds a single payment.
+         */
+        private Directory withoutChunk(int chunkCount, int chunkIndex) {
+            Directory copy = new Directory(chunkCount - 1);
+            System.arraycopy(chunks, 0, copy.chunks, 0, chunkIndex);
+            System.arraycopy(starts, 0, copy.starts, 0, chunkIndex);
+            for (int i = chunkIndex + 1; i < chunkCount; i++) {
+                copy.chunks[i - 1] = chunks[i];
+                copy.starts[i - 1] = starts[i] - 1;
+            }
+            copy.claimed = chunkCount - 1;
+            return copy;
+        }
+
+        private Directory copyOf(int chunkCount, int capacity) {
+            Directory copy = new Directory(capacity);
+            System.arraycopy(chunks, 0, copy.chunks, 0, chunkCount);
+            System.arraycopy(starts, 0, copy.starts, 0, chunkCount);
+            return copy;
+        }
+    }
+
+    /**
+     * The columns of up to {@value #CHUNK_SIZE} payments, which may be shared by several ledgers holding different
+     * numbers of its rows. Rows below {@code claimed} belong to at least one ledger and are never written again.
+     *
+     * The columns are stored one after another in a single array, each as long as the capacity of the chunk. The
+     * nanoseconds of the recorded time and the id of the remarks share a column.
+     */
+    private static final class Chunk {
+        private static final int CENTS = 0;
+        private static final int EPOCH_DAY = 1;
+        private static final int RECORDED_AT_SECONDS = 2;
+        private static final int RECORDED_AT_NANOS_AND_REMARK_ID = 3;
+        private static final int COLUMN_COUNT = 4;
+        private static final AtomicIntegerFieldUpdater<Chunk> CLAIMED =
+                AtomicIntegerFieldUpdater.newUpdater(Chunk.class, "claimed");
+
+        private final long[] columns;
+        private volatile int claimed;
+
+        private Chunk(int capacity) {
+            columns = new long[capacity * COLUMN_COUNT];
+        }
+
+        private int capacity() {
+            return columns.length / COLUMN_COUNT;
+        }
+
+        private int offsetOf(int column) {
+            return column * capacity();
+        }
+
+        /**
+         * Claims the free row {@code row} for the calling ledger, returning false if another ledger claimed it first.
+         */
+        private boolean claim(int row) {
+            return CLAIMED.compareAndSet(this, row, row + 1);
+        }
+
+        private void write(int row, Payment payment) {
+            write(row, payment, REMARKS.idOf(payment.getRemarks()));
+        }
+
+        private void write(int row, Payment payment, int remarkId) {
+            LocalDateTime recordedAt = payment.getRecordedAt();
+            int capacity = capacity();
+            columns[CENTS * capacity + row] = payment.getAmount().getCents();
+            columns[EPOCH_DAY * capacity + row] = payment.getDate().toEpochDay();
+            columns[RECORDED_AT_SECONDS * capacity + row] = recordedAt.toEpochSecond(ZoneOffset.UTC);
+            columns[RECORDED_AT_NANOS_AND_REMARK_ID * capacity + row] =
+                    ((long) recordedAt.getNano() << Integer.SIZE) | Integer.toUnsignedLong(remarkId);
+        }
+
+        private long getCents(int row) {
+            return columns[CENTS * capacity() + row];
+        }
+
+        private long getEpochDay(int row) {
+            return columns[EPOCH_DAY * capacity() + row];
+        }
+
+        private String getRemarks(int row) {
+            return REMARKS.get((int) columns[RECORDED_AT_NANOS_AND_REMARK_ID * capacity() + row]);
+        }
+
+        private LocalDateTime getRecordedAt(int row) {
+            int capacity = capacity();
+            long nanosAndRemarkId = columns[RECORDED_AT_NANOS_AND_REMARK_ID * capacity + row];
+            return LocalDateTime.ofEpochSecond(columns[RECORDED_AT_SECONDS * capacity + row],
+                    (int) (nanosAndRemarkId >>> Integer.SIZE), ZoneOffset.UTC);
+        }
+
+        /**
+         * Returns true if the row {@code row} holds the same payment as the row {@code otherRow} of {@code other}.
+         * Equal remarks have the same id, as all chunks share one dictionary.
+         */
+        private boolean rowEquals(int row, Chunk other, int otherRow) {
+            int capacity = capacity();
+            int otherCapacity = other.capacity();
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                if (columns[column * capacity + row] != other.columns[column * otherCapacity + otherRow]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a new chunk with the given capacity holding the first {@code rows} rows of this chunk.
+         */
+        private Chunk copyOf(int rows, int capacity) {
+            Chunk copy = new Chunk(capacity);
+            copyRows(this, 0, copy, 0, rows);
+            return copy;
+        }
+
+        /**
+         * Returns a new chunk with the given capacity holding the first {@code rows} rows of this chunk except the
+         * row {@code skippedRow}.
+         */
+        private Chunk copyOf(int rows, int capacity, int skippedRow) {
+            Chunk copy = new Chunk(capacity);
+            copyRows(this, 0, copy, 0, skippedRow);
+            copyRows(this, skippedRow + 1, copy, skippedRow, rows - skippedRow - 1);
+            return copy;
+        }
+
+        private static void copyRows(Chunk from, int fromRow, Chunk to, int toRow, int rows) {
+            int fromCapacity = from.capacity();
+            int toCapacity = to.capacity();
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                System.arraycopy(from.columns, column * fromCapacity + fromRow,
+                        to.columns, column * toCapacity + toRow, rows);
+            }
+        }
+    }
+
+    /**
+     * The distinct remarks of all payments in all ledgers, each stored once and referred to by its id.
+     * Remarks are only ever added, as any ledger may still refer to them, so the dictionary grows with the number of
+     * distinct remarks ever recorded rather than with the number of payments.
+     */
+    private static final class RemarksDictionary {
+        /** The id of the remarks of a payment without remarks. */
+        private static final int NO_REMARKS = -1;
+        /** The result of {@link #find(String)} for remarks that are not in the dictionary. */
+        private static final int NOT_FOUND = -2;
+
+        private final List<String> remarksById = new ArrayList<>();
+        private final Map<String, Integer> idsByRemarks = new HashMap<>();
+
+        /**
+         * Returns the id of {@code remarks}, adding them to this dictionary first if they are not in it.
+         */
+        private synchronized int idOf(String remarks) {
+            if (remarks == null) {
+                return NO_REMARKS;
+            }
+            return idsByRemarks.computeIfAbsent(remarks, unused -> {
+                remarksById.add(remarks);
+                return remarksById.size() - 1;
+            });
+        }
+
+        /**
+         * Returns the id of {@code remarks}, or {@link #NOT_FOUND} if they are not in this dictionary.
+         */
+        private synchronized int find(String remarks) {
+            if (remarks == null) {
+                return NO_REMARKS;
+            }
+            return idsByRemarks.getOrDefault(remarks, NOT_FOUND);
+        }
+
+        private synchronized String get(int id) {
+            return id == NO_REMARKS ? null : remarksById.get(id);
+        }
+    }
+}
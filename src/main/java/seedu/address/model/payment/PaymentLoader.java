@@ -0,0 +1,17 @@
+package seedu.address.model.payment;
+
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
+
+/**
+ * Loads the payments of a person that are left in storage until they are first read.
+ */
+@FunctionalInterface
+public interface PaymentLoader {
+
+    /**
+     * Returns the payments.
+     *
+     * @throws PaymentLoadingException if the payments could not be loaded.
+     */
+    PaymentLedger load();
+}
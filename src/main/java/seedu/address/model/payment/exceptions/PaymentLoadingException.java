@@ -0,0 +1,10 @@
+package seedu.address.model.payment.exceptions;
+
+/**
+ * Signals that the payments of a person could not be loaded from storage.
+ */
+public class PaymentLoadingException extends RuntimeException {
+    public PaymentLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} contains any of the keywords given as a whole word, or that any of
+ * the {@code Person}'s {@code Tag}s contains any of the keywords. Matching is case-insensitive.
+ *
+ * This matches the same persons as {@link NameContainsKeywordsPredicate} or {@link TagContainsKeywordsPredicate},
+ * but the keywords are validated and lower-cased once on construction, and names and tags are then scanned in place
+ * without splitting or copying them.
+ */
+public final class KeywordMatcher implements Predicate<Person> {
+
+    private final String[] keywords;
+
+    /**
+     * Compiles {@code keywords} into a {@code KeywordMatcher}.
+     *
+     * @param keywords cannot be null, and every keyword cannot be empty and must be a single word.
+     * @throws IllegalArgumentException if any keyword is empty or not a single word.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        for (int i = 0; i < this.keywords.length; i++) {
+            String preppedKeyword = requireNonNull(keywords.get(i)).trim();
+            checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+            checkArgument(indexOfWhitespace(preppedKeyword, 0) == -1, "Keyword should be a single word");
+            this.keywords[i] = preppedKeyword.toLowerCase();
+        }
+    }
+
+    /**
+     * Returns the lower-cased keywords of this matcher.
+     */
+    public List<String> getKeywords() {
+        return List.of(keywords);
+    }
+
+    /**
+     * Returns true if every person that this matcher matches is also matched by {@code other}.
+     * As a person matches if any keyword matches, this is the case when every keyword of this matcher is also a
+     * keyword of {@code other}.
+     */
+    public boolean isNarrowerThan(KeywordMatcher other) {
+        requireNonNull(other);
+        for (String keyword : keywords) {
+            if (!Arrays.asList(other.keywords).contains(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (matchesName(person.getName().fullName)) {
+            return true;
+        }
+        for (Tag tag : person.getTags()) {
+            if (matchesTagName(tag.tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any whitespace-separated word of {@code name} is equal to any keyword, ignoring case.
+     */
+    public boolean matchesName(String name) {
+        int length = name.length();
+        int wordStart = 0;
+        while (wordStart < length) {
+            int wordEnd = indexOfWhitespace(name, wordStart);
+            if (wordEnd == -1) {
+                wordEnd = length;
+            }
+            int wordLength = wordEnd - wordStart;
+            for (String keyword : keywords) {
+                if (keyword.length() == wordLength && name.regionMatches(true, wordStart, keyword, 0, wordLength)) {
+                    return true;
+                }
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code tagName} contains any keyword, ignoring case.
+     */
+    public boolean matchesTagName(String tagName) {
+        for (String keyword : keywords) {
+            int lastStart = tagName.length() - keyword.length();
+            for (int start = 0; start <= lastStart; start++) {
+                if (tagName.regionMatches(true, start, keyword, 0, keyword.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first whitespace character (as matched by the regex {@code \s}) in {@code s}
+     * at or after {@code fromIndex}, or -1 if there is none.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+                return i;
+            default:
+                break;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordMatcher)) {
+            return false;
+        }
+
+        KeywordMatcher otherKeywordMatcher = (KeywordMatcher) other;
+        return Arrays.equals(keywords, otherKeywordMatcher.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", getKeywords()).toString();
+    }
+}
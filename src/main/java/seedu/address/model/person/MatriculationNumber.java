@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+
+import java.util.regex.Pattern;
 
 import seedu.address.model.person.exceptions.InvalidMatriculationNumberException;
 
@@ -23,6 +26,9 @@ public class MatriculationNumber {
      * Total length: 10.
      */
     public static final String VALIDATION_REGEX = "A\\d{8}[A-Z]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final int LENGTH = 10;
+    private static final char ASCII_MAX = 0x7F;
 
     public final String value;
 
@@ -32,23 +38,58 @@ public class MatriculationNumber {
      * @param input A valid matriculation number.
      */
     public MatriculationNumber(String input) {
-        requireNonNull(input);
-
         // Convert to uppercase automatically
-        String normalized = input.toUpperCase();
+        this(requireNonNull(input).toUpperCase(), true);
+    }
 
-        if (!isValidMatriculationNumber(normalized)) {
+    private MatriculationNumber(String normalized, boolean isChecked) {
+        requireNonNull(normalized);
+        if (isChecked && !isValidMatriculationNumber(normalized)) {
             throw new InvalidMatriculationNumberException(normalized);
         }
-
         value = normalized;
     }
 
+    /**
+     * Returns a {@code MatriculationNumber} of {@code value} without normalizing it or checking that it is valid.
+     * {@code value} must be known to be a valid upper-case matriculation number, such as one read from a data file
+     * written by this app.
+     */
+    public static MatriculationNumber ofTrusted(String value) {
+        return new MatriculationNumber(value, false);
+    }
+
     /**
      * Returns true if the given string is a valid matriculation number.
      */
     public static boolean isValidMatriculationNumber(String test) {
-        return test != null && test.toUpperCase().matches(VALIDATION_REGEX);
+        if (test == null) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c > ASCII_MAX || c == 'i') {
+                // the upper case of these depends on the locale, or may be longer or ASCII, so they are left to the
+                // regex
+                return VALIDATION_PATTERN.matcher(test.toUpperCase()).matches();
+            }
+        }
+
+        // the upper case of the remaining ASCII characters is the same in every locale
+        if (test.length() != LENGTH || toUpperCase(test.charAt(0)) != 'A') {
+            return false;
+        }
+        for (int i = 1; i < LENGTH - 1; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        char last = toUpperCase(test.charAt(LENGTH - 1));
+        return last >= 'A' && last <= 'Z';
+    }
+
+    private static char toUpperCase(char asciiChar) {
+        return asciiChar >= 'a' && asciiChar <= 'z' ? (char) (asciiChar - 'a' + 'A') : asciiChar;
     }
 
     @Override
@@ -2,7 +2,6 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -11,6 +10,9 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.payment.PaymentLoader;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -19,6 +21,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    /** The last payment day of a person without payments, which is before the day of any payment. */
+    public static final long NO_PAYMENT_EPOCH_DAY = PaymentLedger.NO_PAYMENT_EPOCH_DAY;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,7 +32,13 @@ public class Person {
     // Data fields
     private final MatriculationNumber matriculationNumber;
     private final Set<Tag> tags = new HashSet<>();
-    private final List<Payment> payments;
+    // null until loaded by paymentLoader, if the payments are left in storage
+    private volatile PaymentLedger payments;
+    // the loader the payments came from, or null if they were not loaded from storage or have changed since
+    private final PaymentLoader paymentLoader;
+    private final int paymentCount;
+    private final long totalPaidCents;
+    private final long lastPaymentEpochDay;
     private final boolean archived;
 
     /**
@@ -42,7 +53,11 @@ public class Person {
         this.matriculationNumber = matriculationNumber;
         this.tags.addAll(tags);
         this.archived = false;
-        this.payments = Collections.unmodifiableList(new ArrayList<>()); // empty immutable list
+        this.payments = PaymentLedger.empty();
+        this.paymentLoader = null;
+        this.paymentCount = 0;
+        this.totalPaidCents = 0;
+        this.lastPaymentEpochDay = NO_PAYMENT_EPOCH_DAY;
     }
 
     /**
@@ -57,7 +72,43 @@ public class Person {
         this.matriculationNumber = matriculationNumber;
         this.tags.addAll(tags);
         this.archived = archived;
-        this.payments = Collections.unmodifiableList(new ArrayList<>(payments));
+        this.payments = PaymentLedger.copyOf(payments);
+        this.paymentLoader = null;
+        this.paymentCount = this.payments.size();
+        this.totalPaidCents = this.payments.sumCents();
+        this.lastPaymentEpochDay = this.payments.getLastEpochDay();
+    }
+
+    /**
+     * Constructor for a person whose {@code paymentCount} payments, which amount to {@code totalPaidCents} and of
+     * which the latest is on {@code lastPaymentEpochDay}, are loaded by {@code paymentLoader} when first read.
+     */
+    public Person(Name name, Phone phone, Email email, MatriculationNumber matriculationNumber,
+                  Set<Tag> tags, boolean archived, int paymentCount, long totalPaidCents, long lastPaymentEpochDay,
+                  PaymentLoader paymentLoader) {
+        this(name, phone, email, matriculationNumber, tags, archived, null, paymentLoader, paymentCount,
+                totalPaidCents, lastPaymentEpochDay);
+        requireAllNonNull(name, phone, email, matriculationNumber, tags, paymentLoader);
+    }
+
+    /**
+     * Copy constructor used by the copy-with methods, which already know the size, total and last day of the
+     * payments.
+     */
+    private Person(Name name, Phone phone, Email email, MatriculationNumber matriculationNumber,
+                   Set<Tag> tags, boolean archived, PaymentLedger payments, PaymentLoader paymentLoader,
+                   int paymentCount, long totalPaidCents, long lastPaymentEpochDay) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.matriculationNumber = matriculationNumber;
+        this.tags.addAll(tags);
+        this.archived = archived;
+        this.payments = payments;
+        this.paymentLoader = paymentLoader;
+        this.paymentCount = paymentCount;
+        this.totalPaidCents = totalPaidCents;
+        this.lastPaymentEpochDay = lastPaymentEpochDay;
     }
 
     public Name getName() {
@@ -88,14 +139,70 @@ public class Person {
      * NEW: copy-with for archived flag
      */
     public Person withArchived(boolean newArchived) {
-        return new Person(name, phone, email, matriculationNumber, tags, newArchived, payments);
+        return new Person(name, phone, email, matriculationNumber, tags, newArchived, payments, paymentLoader,
+                paymentCount, totalPaidCents, lastPaymentEpochDay);
     }
 
     /**
-     * Returns an immutable view of the payments list.
+     * Returns the immutable payments list, which creates each {@code Payment} from the ledger columns when read.
+     * Use {@link #getPaymentLedger()} to read the payments without creating {@code Payment} objects.
+     *
+     * @throws PaymentLoadingException if the payments are left in storage and could not be loaded.
      */
     public List<Payment> getPayments() {
-        return payments;
+        return getPaymentLedger();
+    }
+
+    /**
+     * Returns the payments of this person as a {@code PaymentLedger}, loading them first if they are left in storage.
+     *
+     * @throws PaymentLoadingException if the payments could not be loaded.
+     */
+    public PaymentLedger getPaymentLedger() {
+        PaymentLedger loaded = payments;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = payments;
+                if (loaded == null) {
+                    loaded = paymentLoader.load();
+                    payments = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the number of payments of this person, without loading them.
+     */
+    public int getPaymentCount() {
+        return paymentCount;
+    }
+
+    /**
+     * Returns the loader the payments of this person are loaded from, or null if the payments were not loaded from
+     * storage or have changed since.
+     * Storage can use this to keep the stored payments instead of writing them again.
+     */
+    public PaymentLoader getPaymentLoader() {
+        return paymentLoader;
+    }
+
+    /**
+     * Returns the sum of the amounts of all payments of this person, in cents.
+     * This is maintained as payments are added, removed and edited, so it does not require summing the payments.
+     */
+    public long getTotalPaidCents() {
+        return totalPaidCents;
+    }
+
+    /**
+     * Returns the date of the latest payment of this person as a day count from the epoch, as in
+     * {@link java.time.LocalDate#toEpochDay()}, or {@link #NO_PAYMENT_EPOCH_DAY} if there are no payments.
+     * This is maintained as payments are added, removed and edited, so it does not require loading the payments.
+     */
+    public long getLastPaymentEpochDay() {
+        return lastPaymentEpochDay;
     }
 
     public MatriculationNumber getMatriculationNumber() {
@@ -107,9 +214,11 @@ public class Person {
      * This preserves immutability.
      */
     public Person withAddedPayment(Payment payment) {
-        List<Payment> updated = new ArrayList<>(this.payments);
-        updated.add(payment);
-        return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
+        requireAllNonNull(payment);
+        return new Person(name, phone, email, matriculationNumber, tags, archived,
+            getPaymentLedger().withAppended(payment), null, paymentCount + 1,
+            Math.addExact(totalPaidCents, payment.getAmount().getCents()),
+            Math.max(lastPaymentEpochDay, payment.getDate().toEpochDay()));
     }
 
     /**
@@ -117,18 +226,42 @@ public class Person {
      * If the payment does not exist, this person is returned unchanged.
      */
     public Person withRemovedPayment(Payment paymentToRemove) {
-        List<Payment> updated = new ArrayList<>(this.payments);
-        updated.remove(paymentToRemove);
-        return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
+        int index = getPaymentLedger().indexOf(paymentToRemove);
+        if (index == -1) {
+            return this;
+        }
+        return withRemovedPayment(index);
+    }
+
+    /**
+     * Returns a new Person that is identical to this person but with the payment at {@code zeroBasedPaymentIndex}
+     * removed.
+     */
+    public Person withRemovedPayment(int zeroBasedPaymentIndex) {
+        PaymentLedger ledger = getPaymentLedger();
+        long removedCents = ledger.getCents(zeroBasedPaymentIndex);
+        PaymentLedger removed = ledger.withRemoved(zeroBasedPaymentIndex);
+        long newLastPaymentEpochDay = ledger.getEpochDay(zeroBasedPaymentIndex) < lastPaymentEpochDay
+                ? lastPaymentEpochDay
+                : removed.getLastEpochDay();
+        return new Person(name, phone, email, matriculationNumber, tags, archived, removed, null, paymentCount - 1,
+            totalPaidCents - removedCents, newLastPaymentEpochDay);
     }
 
     /**
      * Returns a new Person with the payment at {@code zeroBasedPaymentIndex} replaced by {@code edited}.
      */
     public Person withEditedPayment(int zeroBasedPaymentIndex, Payment edited) {
-        List<Payment> updated = new ArrayList<>(this.payments);
-        updated.set(zeroBasedPaymentIndex, edited);
-        return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
+        requireAllNonNull(edited);
+        PaymentLedger ledger = getPaymentLedger();
+        long originalCents = ledger.getCents(zeroBasedPaymentIndex);
+        PaymentLedger replaced = ledger.withReplaced(zeroBasedPaymentIndex, edited);
+        long editedEpochDay = edited.getDate().toEpochDay();
+        long newLastPaymentEpochDay = editedEpochDay >= lastPaymentEpochDay ? editedEpochDay
+                : ledger.getEpochDay(zeroBasedPaymentIndex) < lastPaymentEpochDay ? lastPaymentEpochDay
+                : replaced.getLastEpochDay();
+        return new Person(name, phone, email, matriculationNumber, tags, archived, replaced, null, paymentCount,
+            Math.addExact(totalPaidCents - originalCents, edited.getAmount().getCents()), newLastPaymentEpochDay);
     }
 
     /**
@@ -182,7 +315,7 @@ public class Person {
             .add("matriculationNumber", matriculationNumber)
             .add("tags", tags)
             .add("archived", archived)
-            .add("paymentsCount", payments.size())
+            .add("paymentsCount", paymentCount)
             .toString();
     }
 }
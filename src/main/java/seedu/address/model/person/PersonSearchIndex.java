@@ -0,0 +1,167 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from lower-cased name words and tag names to the persons that have them.
+ * Lets keyword searches be resolved by lookup instead of testing every person in the address book.
+ *
+ * Persons are matched with the same semantics as {@link KeywordMatcher}.
+ *
+ * The index must be kept in sync with the persons in the address book through {@link #add(Person)},
+ * {@link #remove(Person)}, {@link #setPerson(Person, Person)} and {@link #setPersons(List)}.
+ */
+public class PersonSearchIndex {
+
+    private final Map<MatriculationNumber, Person> indexedPersons = new HashMap<>();
+    private final Map<String, Set<MatriculationNumber>> personsByNameWord = new HashMap<>();
+    private final Map<String, Set<MatriculationNumber>> personsByTagName = new HashMap<>();
+
+    /** The most recently created query, whose matches are kept up to date as the index changes. */
+    private KeywordQuery activeQuery;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        MatriculationNumber key = person.getMatriculationNumber();
+        indexedPersons.put(key, person);
+        for (String word : getNameWords(person)) {
+            personsByNameWord.computeIfAbsent(word, unused -> new HashSet<>()).add(key);
+        }
+        for (Tag tag : person.getTags()) {
+            personsByTagName.computeIfAbsent(tag.tagName.toLowerCase(), unused -> new HashSet<>()).add(key);
+        }
+
+        if (activeQuery != null && activeQuery.matcher.test(person)) {
+            activeQuery.matches.add(key);
+        }
+    }
+
+    /**
+     * Removes the person with the same identity as {@code person} from the index, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        MatriculationNumber key = person.getMatriculationNumber();
+        Person indexed = indexedPersons.remove(key);
+        if (indexed == null) {
+            return;
+        }
+        for (String word : getNameWords(indexed)) {
+            removeFromPostings(personsByNameWord, word, key);
+        }
+        for (Tag tag : indexed.getTags()) {
+            removeFromPostings(personsByTagName, tag.tagName.toLowerCase(), key);
+        }
+
+        if (activeQuery != null) {
+            activeQuery.matches.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        indexedPersons.clear();
+        personsByNameWord.clear();
+        personsByTagName.clear();
+        if (activeQuery != null) {
+            activeQuery.matches.clear();
+        }
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as {@code matcher}.
+     * The matching persons are resolved through the index when this method is called and are kept up to date as
+     * the index changes, so testing a person that is in the index costs a single lookup. Only the predicate returned
+     * by the latest call is kept up to date; earlier ones fall back to testing persons with {@code matcher}.
+     */
+    public Predicate<Person> find(KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        KeywordQuery query = new KeywordQuery(matcher);
+        for (String keyword : matcher.getKeywords()) {
+            Set<MatriculationNumber> nameMatches = personsByNameWord.get(keyword);
+            if (nameMatches != null) {
+                query.matches.addAll(nameMatches);
+            }
+        }
+        // tags match by substring, so every distinct tag name has to be checked, but not every person
+        personsByTagName.forEach((tagName, tagMatches) -> {
+            if (matcher.matchesTagName(tagName)) {
+                query.matches.addAll(tagMatches);
+            }
+        });
+        activeQuery = query;
+        return query;
+    }
+
+    private static void removeFromPostings(Map<String, Set<MatriculationNumber>> postings, String token,
+            MatriculationNumber key) {
+        Set<MatriculationNumber> keys = postings.get(token);
+        if (keys == null) {
+            return;
+        }
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            postings.remove(token);
+        }
+    }
+
+    private static String[] getNameWords(Person person) {
+        String[] words = person.getName().fullName.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase();
+        }
+        return words;
+    }
+
+    /**
+     * A keyword search resolved against this index.
+     */
+    private class KeywordQuery implements Predicate<Person> {
+        private final KeywordMatcher matcher;
+        private final Set<MatriculationNumber> matches = new HashSet<>();
+
+        KeywordQuery(KeywordMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            MatriculationNumber key = person.getMatriculationNumber();
+            if (this == activeQuery && indexedPersons.get(key) == person) {
+                return matches.contains(key);
+            }
+            // not (yet) indexed, e.g. an edited person being tested before the index has been updated
+            return matcher.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("matcher", matcher).toString();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * Represents an order that the persons shown can be sorted in. Persons are sorted in ascending order of the field,
+ * and persons that are equal in it are sorted by matriculation number.
+ */
+public enum SortOrder {
+    NAME("name"),
+    MATRICULATION_NUMBER("matric"),
+    TOTAL_PAID("paid"),
+    /** Persons without payments come first. */
+    LAST_PAYMENT_DATE("lastpaid");
+
+    private final String keyword;
+
+    SortOrder(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the keyword that the user refers to this order by.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the order referred to by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<SortOrder> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (SortOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+}
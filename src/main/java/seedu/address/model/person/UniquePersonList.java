@@ -3,11 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +25,54 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code MatriculationNumber}, which is the identity used by
+ * {@code Person#isSamePerson(Person)}, so that identity checks do not need to scan the list, and the total of all
+ * their payments is maintained as persons are added, replaced and removed. The position of each person in the list
+ * is also kept, so that replacing or removing a person does not need to scan the list either. After a removal, the
+ * positions of the persons that followed it are only brought up to date when next needed.
+ *
+ * The active and the archived persons are also kept in two partitions of their own, in the same order as in the list,
+ * so that either can be shown without testing every person. A person whose archived state changes is found in its
+ * partition by a binary search on the positions, and moved to the other.
+ *
+ * Several changes can be applied with {@link #applyChanges(Map)}, which publishes them as a single change to each of
+ * these lists.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableList<Person> internalList = new BatchableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final BatchableList<Person> activePersons = new BatchableList<>();
+    private final ObservableList<Person> unmodifiableActivePersons =
+            FXCollections.unmodifiableObservableList(activePersons);
+    private final BatchableList<Person> archivedPersons = new BatchableList<>();
+    private final ObservableList<Person> unmodifiableArchivedPersons =
+            FXCollections.unmodifiableObservableList(archivedPersons);
+    private final Map<MatriculationNumber, Person> personsByMatriculationNumber = new HashMap<>();
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    /** Positions from this one on may be out of date, as persons before them have been removed. */
+    private int stalePositionsStart;
+    private long totalPaidCents;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByMatriculationNumber.containsKey(toCheck.getMatriculationNumber());
+    }
+
+    /**
+     * Returns the person in the list with {@code matriculationNumber}, if there is one.
+     */
+    public Optional<Person> get(MatriculationNumber matriculationNumber) {
+        requireNonNull(matriculationNumber);
+        return Optional.ofNullable(personsByMatriculationNumber.get(matriculationNumber));
     }
 
     /**
@@ -46,6 +85,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByMatriculationNumber.put(toAdd.getMatriculationNumber(), toAdd);
+        int position = internalList.size() - 1;
+        positions.put(toAdd, position);
+        if (stalePositionsStart == position) {
+            stalePositionsStart++;
+        }
+        getPartition(toAdd).add(toAdd);
+        addToTotals(toAdd);
     }
 
     /**
@@ -56,7 +103,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +112,24 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        ObservableList<Person> fromPartition = getPartition(target);
+        int partitionIndex = partitionIndexOf(fromPartition, index);
+
+        Person replaced = internalList.set(index, editedPerson);
+        personsByMatriculationNumber.remove(replaced.getMatriculationNumber());
+        personsByMatriculationNumber.put(editedPerson.getMatriculationNumber(), editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
+
+        ObservableList<Person> toPartition = getPartition(editedPerson);
+        if (toPartition == fromPartition) {
+            fromPartition.set(partitionIndex, editedPerson);
+        } else {
+            fromPartition.remove(partitionIndex);
+            toPartition.add(-(partitionIndexOf(toPartition, index) + 1), editedPerson);
+        }
+        removeFromTotals(replaced);
+        addToTotals(editedPerson);
     }
 
     /**
@@ -74,14 +138,65 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        ObservableList<Person> partition = getPartition(toRemove);
+        int partitionIndex = partitionIndexOf(partition, index);
+
+        Person removed = internalList.remove(index);
+        partition.remove(partitionIndex);
+        personsByMatriculationNumber.remove(removed.getMatriculationNumber());
+        positions.remove(removed);
+        stalePositionsStart = Math.min(stalePositionsStart, index);
+        removeFromTotals(removed);
     }
 
+    /**
+     * Applies {@code changes}, which maps the matriculation number of each changed person to the person it is changed
+     * to, or to null if the person is removed, in iteration order. The changes are published as a single change to
+     * the list and to each of its partitions.
+     * A person with the same matriculation number as a person in the list replaces that person in place, and any
+     * other person is added to the end of the list.
+     */
+    public void applyChanges(Map<MatriculationNumber, Person> changes) {
+        requireNonNull(changes);
+        internalList.beginBatch();
+        activePersons.beginBatch();
+        archivedPersons.beginBatch();
+        try {
+            changes.forEach((matriculationNumber, person) -> {
+                Person current = personsByMatriculationNumber.get(matriculationNumber);
+                if (current == null) {
+                    if (person != null) {
+                        add(person);
+                    }
+                } else if (person == null) {
+                    remove(current);
+                } else {
+                    setPerson(current, person);
+                }
+            });
+        } finally {
+            archivedPersons.endBatch();
+            activePersons.endBatch();
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByMatriculationNumber.clear();
+        personsByMatriculationNumber.putAll(replacement.personsByMatriculationNumber);
+        resetPositions();
+        activePersons.setAll(replacement.activePersons);
+        archivedPersons.setAll(replacement.archivedPersons);
+        totalPaidCents = replacement.totalPaidCents;
     }
 
     /**
@@ -90,11 +205,98 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<MatriculationNumber, Person> replacementIndex = indexPersons(persons);
 
         internalList.setAll(persons);
+        personsByMatriculationNumber.clear();
+        personsByMatriculationNumber.putAll(replacementIndex);
+        resetPositions();
+        List<Person> replacementActivePersons = new ArrayList<>();
+        List<Person> replacementArchivedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            (person.isArchived() ? replacementArchivedPersons : replacementActivePersons).add(person);
+        }
+        activePersons.setAll(replacementActivePersons);
+        archivedPersons.setAll(replacementArchivedPersons);
+        totalPaidCents = 0;
+        persons.forEach(this::addToTotals);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     * As persons with the same matriculation number are the same person, only one person can be equal to it.
+     */
+    private int indexOf(Person person) {
+        Person stored = personsByMatriculationNumber.get(person.getMatriculationNumber());
+        if (stored == null || !stored.equals(person)) {
+            return -1;
+        }
+        int position = positions.get(stored);
+        if (position >= stalePositionsStart) {
+            updatePositions(stalePositionsStart);
+            position = positions.get(stored);
+        }
+        return position;
+    }
+
+    private ObservableList<Person> getPartition(Person person) {
+        return person.isArchived() ? archivedPersons : activePersons;
+    }
+
+    /**
+     * Returns the index in {@code partition} of the person at {@code position} in the list, if it is in the partition,
+     * or {@code -(insertion index) - 1} otherwise, like {@link java.util.Collections#binarySearch(List, Object)}.
+     * Every person in {@code partition} must be in the list.
+     */
+    private int partitionIndexOf(List<Person> partition, int position) {
+        int low = 0;
+        int high = partition.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middlePosition = indexOf(partition.get(middle));
+            if (middlePosition < position) {
+                low = middle + 1;
+            } else if (middlePosition > position) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void resetPositions() {
+        positions.clear();
+        updatePositions(0);
+    }
+
+    private void updatePositions(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        stalePositionsStart = internalList.size();
+    }
+
+    /**
+     * Returns the sum of the amounts of all payments of all persons in the list, in cents.
+     */
+    public long getTotalPaidCents() {
+        return totalPaidCents;
+    }
+
+    private void addToTotals(Person person) {
+        totalPaidCents = Math.addExact(totalPaidCents, person.getTotalPaidCents());
+    }
+
+    private void removeFromTotals(Person person) {
+        totalPaidCents -= person.getTotalPaidCents();
+    }
+
+    /**
+     * Returns the persons in this list, in order, in a new array.
+     */
+    public Person[] toArray() {
+        return internalList.toArray(new Person[0]);
     }
 
     /**
@@ -104,6 +306,21 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons in the list that are not archived, in the same order, as an unmodifiable
+     * {@code ObservableList}.
+     */
+    public ObservableList<Person> getActivePersons() {
+        return unmodifiableActivePersons;
+    }
+
+    /**
+     * Returns the persons in the list that are archived, in the same order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> getArchivedPersons() {
+        return unmodifiableArchivedPersons;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +352,90 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * An observable list of the elements in an {@code ArrayList}, which can publish the changes made to it between
+     * {@link #beginBatch()} and {@link #endBatch()} as a single change.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static class BatchableList<E> extends ObservableListBase<E> {
+        private final List<E> elements = new ArrayList<>();
+
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] array) {
+            return elements.toArray(array);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            elements.add(index, element);
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            E replaced = elements.set(index, element);
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+            return replaced;
+        }
+
+        @Override
+        public E remove(int index) {
+            E removed = elements.remove(index);
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+            return removed;
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends E> replacement) {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(replacement);
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+            endChange();
+            return true;
+        }
+    }
+
+    /**
+     * Returns {@code persons} indexed by their matriculation numbers.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private static Map<MatriculationNumber, Person> indexPersons(List<Person> persons) {
+        Map<MatriculationNumber, Person> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getMatriculationNumber(), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
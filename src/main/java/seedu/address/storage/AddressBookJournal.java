@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * An append-only log of the changes made to persons since an address book data file (the checkpoint) was written.
+ * The journal is stored next to the data file, one {@link JsonJournalRecord} per line.
+ * Its first line identifies the checkpoint by size and modification time, so a journal left over from an older
+ * version of the data file, such as one edited by hand, is not applied to it.
+ */
+class AddressBookJournal {
+
+    static final String FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path checkpointPath;
+    private final Path journalPath;
+
+    /**
+     * Creates the journal of the data file at {@code checkpointPath}.
+     */
+    AddressBookJournal(Path checkpointPath) {
+        requireNonNull(checkpointPath);
+        this.checkpointPath = checkpointPath;
+        this.journalPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + FILE_EXTENSION);
+    }
+
+    Path getCheckpointPath() {
+        return checkpointPath;
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the records that change {@code before} into {@code after} when replayed, or an empty
+     * {@code Optional} if replaying cannot reproduce the order of {@code after}.
+     * Replay keeps replaced persons in place and adds new persons last, so the persons present in both lists must
+     * be in the same order and come before the new persons in {@code after}.
+     * Persons are compared by reference, which suffices as they are immutable.
+     */
+    static Optional<List<JsonJournalRecord>> diff(List<Person> before, List<Person> after) {
+        Map<MatriculationNumber, Person> afterPersons = new HashMap<>(after.size() * 2);
+        for (Person person : after) {
+            afterPersons.put(person.getMatriculationNumber(), person);
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        int next = 0;
+        for (Person beforePerson : before) {
+            MatriculationNumber key = beforePerson.getMatriculationNumber();
+            Person afterPerson = afterPersons.get(key);
+            if (afterPerson == null) {
+                records.add(JsonJournalRecord.delete(key));
+                continue;
+            }
+            if (afterPerson != after.get(next)) {
+                return Optional.empty();
+            }
+            next++;
+            if (afterPerson != beforePerson) {
+                records.add(diff(beforePerson, afterPerson));
+            }
+        }
+        // the kept persons are exactly the first persons of after, so the rest are new
+        for (Person added : after.subList(next, after.size())) {
+            records.add(JsonJournalRecord.upsert(added));
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Returns the record that changes {@code before} into {@code after}, which have the same matriculation number.
+     * A single payment added, edited or removed is recorded on its own, so the record does not grow with the number
+     * of payments of the person.
+     */
+    private static JsonJournalRecord diff(Person before, Person after) {
+        // equality of persons does not consider their payments
+        if (!before.equals(after)) {
+            return JsonJournalRecord.upsert(after);
+        }
+        MatriculationNumber key = after.getMatriculationNumber();
+        PaymentLedger beforePayments = before.getPaymentLedger();
+        PaymentLedger afterPayments = after.getPaymentLedger();
+        int beforeSize = beforePayments.size();
+        int afterSize = afterPayments.size();
+        int matched = beforePayments.matchingLength(0, afterPayments, 0);
+        if (afterSize == beforeSize + 1 && matched == beforeSize) {
+            return JsonJournalRecord.addPayment(key, afterPayments.get(beforeSize));
+        }
+        if (afterSize == beforeSize && matched < beforeSize
+                && beforePayments.matchingLength(matched + 1, afterPayments, matched + 1) == beforeSize - matched - 1) {
+            return JsonJournalRecord.editPayment(key, matched, afterPayments.get(matched));
+        }
+        if (beforeSize == afterSize + 1
+                && beforePayments.matchingLength(matched + 1, afterPayments, matched) == afterSize - matched) {
+            return JsonJournalRecord.removePayment(key, matched);
+        }
+        return JsonJournalRecord.upsert(after);
+    }
+
+    /**
+     * Appends {@code records} to the journal.
+     * If {@code isNewJournal} is true, any existing journal is replaced by one starting from the current checkpoint.
+     * If this throws, the journal may end in a partial record and must be replaced before it is appended to again.
+     */
+    void append(List<JsonJournalRecord> records, boolean isNewJournal) throws IOException {
+        StandardOpenOption mode = isNewJournal ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            if (isNewJournal) {
+                writeLine(writer, JsonJournalRecord.checkpoint(Files.size(checkpointPath),
+                        Files.getLastModifiedTime(checkpointPath).toMillis()));
+            }
+            for (JsonJournalRecord record : records) {
+                writeLine(writer, record);
+            }
+        }
+    }
+
+    /**
+     * Deletes the journal, if any. This must be done whenever a new checkpoint is written.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * Applies the changes in the journal to {@code persons}, which must be the persons in the checkpoint in order,
+     * and returns the persons in order after the changes.
+     * {@link Replay#canAppend()} of the result is false if the journal did not apply to the checkpoint or ended
+     * in a partial record, in which case the journal must be replaced before it is appended to.
+     *
+     * @throws DataLoadingException if the journal could not be read or contains an invalid record.
+     */
+    Replay replay(List<Person> persons) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return new Replay(persons, 0, true);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, UTF_8)) {
+            if (!isJournalOfCheckpoint(reader.readLine())) {
+                logger.warning("Ignoring journal " + journalPath + " as it does not match " + checkpointPath);
+                return new Replay(persons, 0, false);
+            }
+
+            Map<MatriculationNumber, Person> replayed = new LinkedHashMap<>(persons.size() * 2);
+            for (Person person : persons) {
+                replayed.put(person.getMatriculationNumber(), person);
+            }
+
+            int recordCount = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                JsonJournalRecord record;
+                try {
+                    record = readRecord(line);
+                } catch (JsonProcessingException e) {
+                    if (reader.readLine() != null) {
+                        throw e;
+                    }
+                    // only the last record can be partial, if the app stopped while writing it
+                    logger.warning("Ignoring partial last record of journal " + journalPath);
+                    return new Replay(new ArrayList<>(replayed.values()), recordCount, false);
+                }
+                record.applyTo(replayed);
+                recordCount++;
+            }
+            return new Replay(new ArrayList<>(replayed.values()), recordCount, true);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private boolean isJournalOfCheckpoint(String header) throws IOException {
+        if (header == null) {
+            return false;
+        }
+        try {
+            return readRecord(header).isCheckpointOf(Files.size(checkpointPath),
+                    Files.getLastModifiedTime(checkpointPath).toMillis());
+        } catch (JsonProcessingException e) {
+            // the app stopped while writing the header
+            return false;
+        }
+    }
+
+    private static JsonJournalRecord readRecord(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+    }
+
+    private static void writeLine(BufferedWriter writer, JsonJournalRecord record) throws IOException {
+        writer.write(JsonUtil.toCompactJsonString(record));
+        writer.newLine();
+    }
+
+    /**
+     * The result of replaying a journal.
+     */
+    static class Replay {
+        private final List<Person> persons;
+        private final int recordCount;
+        private final boolean canAppend;
+
+        private Replay(List<Person> persons, int recordCount, boolean canAppend) {
+            this.persons = persons;
+            this.recordCount = recordCount;
+            this.canAppend = canAppend;
+        }
+
+        List<Person> getPersons() {
+            return persons;
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        boolean canAppend() {
+            return canAppend;
+        }
+    }
+}
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes the last saved {@link seedu.address.model.ReadOnlyAddressBook} in full to the storage, if the storage
+     * has only recorded some of its changes so far.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpointAddressBook() throws IOException;
+
 }
@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary format, as written by a {@code DataOutputStream}:
+ * <pre>
+ * file       := MAGIC VERSION dictionary personCount:int person*
+ * dictionary := count:int string*                      (the distinct tag names and remarks)
+ * person     := length:int name phone email matriculationNumber archived:boolean
+ *               tagCount:int tagIndex:int* paymentCount:int payment*
+ * payment    := cents:long epochDay:long recordedAtEpochSecond:long recordedAtNano:int remarksIndex:int
+ * string     := length:int utf8Bytes
+ * </pre>
+ * Tags and remarks are stored as indices into the dictionary, with a remarks index of {@code NO_REMARKS} for a
+ * payment without remarks. Each person is prefixed with its length in bytes, so a reader can skip over it.
+ */
+class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x41423342; // "AB3B"
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_FILE = "Not an address book data file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book data file version: %d";
+    static final String MESSAGE_CORRUPTED = "Address book data file is corrupted";
+
+    private static final int NO_REMARKS = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryAddressBookFormat() {} // prevent instantiation
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing the file if it exists.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = buildDictionary(persons);
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+
+            out.writeInt(persons.size());
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Person person : persons) {
+                writePerson(recordOut, person, dictionary);
+                out.writeInt(record.size());
+                record.writeTo(out);
+                record.reset();
+            }
+        }
+    }
+
+    /**
+     * Reads the address book in the file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a valid data file.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        long fileSize = Files.size(filePath);
+        List<Person> persons = new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            if (fileSize < Integer.BYTES * 2 || in.readInt() != MAGIC) {
+                throw new StreamCorruptedException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new StreamCorruptedException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] dictionary = new String[readCount(in, fileSize)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in, fileSize);
+            }
+
+            int personCount = readCount(in, fileSize);
+            for (int i = 0; i < personCount; i++) {
+                byte[] record = new byte[readCount(in, fileSize)];
+                in.readFully(record);
+                persons.add(readPerson(record, dictionary));
+            }
+            if (in.read() != -1) {
+                throw new StreamCorruptedException(MESSAGE_CORRUPTED);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the distinct tag names and remarks of {@code persons}, each mapped to its index in the dictionary.
+     */
+    private static Map<String, Integer> buildDictionary(List<Person> persons) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+            PaymentLedger payments = person.getPaymentLedger();
+            for (int i = 0; i < payments.size(); i++) {
+                String remarks = payments.getRemarks(i);
+                if (remarks != null) {
+                    dictionary.putIfAbsent(remarks, dictionary.size());
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getMatriculationNumber().value);
+        out.writeBoolean(person.isArchived());
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+
+        PaymentLedger payments = person.getPaymentLedger();
+        out.writeInt(payments.size());
+        for (int i = 0; i < payments.size(); i++) {
+            LocalDateTime recordedAt = payments.getRecordedAt(i);
+            String remarks = payments.getRemarks(i);
+            out.writeLong(payments.getCents(i));
+            out.writeLong(payments.getEpochDay(i));
+            out.writeLong(recordedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(recordedAt.getNano());
+            out.writeInt(remarks == null ? NO_REMARKS : dictionary.get(remarks));
+        }
+    }
+
+    private static Person readPerson(byte[] record, String[] dictionary) throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        String name = readString(in, record.length);
+        String phone = readString(in, record.length);
+        String email = readString(in, record.length);
+        String matriculationNumber = readString(in, record.length);
+        boolean archived = in.readBoolean();
+
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readCount(in, record.length);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = lookUp(dictionary, in.readInt());
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int paymentCount = readCount(in, record.length);
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < paymentCount; i++) {
+            payments.add(readPayment(in, dictionary));
+        }
+
+        if (in.read() != -1) {
+            throw new StreamCorruptedException(MESSAGE_CORRUPTED);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email),
+                new MatriculationNumber(matriculationNumber), tags, archived, payments);
+    }
+
+    private static Payment readPayment(DataInputStream in, String[] dictionary) throws IOException,
+            IllegalValueException {
+        long cents = in.readLong();
+        long epochDay = in.readLong();
+        long recordedAtEpochSecond = in.readLong();
+        int recordedAtNano = in.readInt();
+        int remarksIndex = in.readInt();
+        String remarks = remarksIndex == NO_REMARKS ? null : lookUp(dictionary, remarksIndex);
+
+        final Amount amount;
+        try {
+            amount = Amount.ofCents(cents);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid amount: " + Amount.formatCents(cents));
+        }
+        try {
+            return new Payment(amount, LocalDate.ofEpochDay(epochDay), remarks,
+                    LocalDateTime.ofEpochSecond(recordedAtEpochSecond, recordedAtNano, ZoneOffset.UTC));
+        } catch (DateTimeException e) {
+            throw new IllegalValueException("Invalid payment date: " + e.getMessage());
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string of at most {@code maxLength} bytes.
+     */
+    static String readString(DataInputStream in, long maxLength) throws IOException {
+        byte[] bytes = new byte[readCount(in, maxLength)];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads a length or count, which cannot be negative or more than {@code max}.
+     */
+    static int readCount(DataInputStream in, long max) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > max) {
+            throw new StreamCorruptedException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static String lookUp(String[] dictionary, int index) throws IOException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new StreamCorruptedException(MESSAGE_CORRUPTED);
+        }
+        return dictionary[index];
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk, in the format described in
+ * {@link BinaryAddressBookFormat}.
+ *
+ * The storage can be given a json data file to import from, which is read instead while there is no binary file,
+ * so switching an existing address book to this storage keeps its data.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonImportFilePath;
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath} that reads the json file at
+     * {@code jsonImportFilePath} instead while there is no file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonImportFilePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonImportFilePath = jsonImportFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file to use in place of the json file at {@code jsonFilePath}.
+     * For example, {@code data/addressbook.json} becomes {@code data/addressbook.bin}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath) && jsonImportFilePath != null) {
+            logger.info("Binary file " + filePath + " not found, importing " + jsonImportFilePath);
+            return new JsonAddressBookStorage(jsonImportFilePath).readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but does not import from the json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryAddressBookFormat.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryAddressBookFormat.write(addressBook, filePath);
+    }
+
+    @Override
+    public void checkpointAddressBook() {
+        // every save writes the whole file
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} to a binary data file at {@code binaryFilePath}.
+     *
+     * @throws DataLoadingException if the json file could not be read.
+     * @throws IOException if the binary file could not be written.
+     */
+    public static void importFromJson(Path jsonFilePath, Path binaryFilePath) throws DataLoadingException,
+            IOException {
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(jsonFilePath.toString())));
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} to a json data file at {@code jsonFilePath}.
+     *
+     * @throws DataLoadingException if the binary file could not be read.
+     * @throws IOException if the json file could not be written.
+     */
+    public static void exportToJson(Path binaryFilePath, Path jsonFilePath) throws DataLoadingException,
+            IOException {
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(binaryFilePath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(binaryFilePath.toString())));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.payment.Amount;
 import seedu.address.model.payment.Payment;
 
@@ -41,9 +42,9 @@ public class JsonAdaptedPayment {
      */
     public JsonAdaptedPayment(Payment source) {
         this.amount = source.getAmount().toString();
-        this.date = source.getDate().toString();
+        this.date = DateTimeUtil.formatDate(source.getDate());
         this.remarks = source.getRemarks(); // may be null
-        this.recordedAt = source.getRecordedAt().toString();
+        this.recordedAt = DateTimeUtil.formatDateTime(source.getRecordedAt());
     }
 
     /**
@@ -68,7 +69,7 @@ public class JsonAdaptedPayment {
 
         final LocalDate modelDate;
         try {
-            modelDate = LocalDate.parse(date.trim());
+            modelDate = DateTimeUtil.parseDate(date.trim());
         } catch (Exception e) {
             throw new IllegalValueException("Invalid payment date: " + date + " (expected yyyy-MM-dd)");
         }
@@ -77,7 +78,7 @@ public class JsonAdaptedPayment {
         try {
             modelRecordedAt = (recordedAt == null || recordedAt.isBlank())
                 ? LocalDateTime.now()
-                : LocalDateTime.parse(recordedAt.trim());
+                : DateTimeUtil.parseDateTime(recordedAt.trim());
         } catch (Exception e) {
             throw new IllegalValueException("Invalid recordedAt: " + recordedAt + " (expected ISO-8601)");
         }
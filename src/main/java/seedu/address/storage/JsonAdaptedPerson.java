@@ -82,46 +82,63 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but only checks that the fields are present, not that they are valid.
+     * Only for persons known to be valid, such as those in a data file whose checksum shows it was written by this
+     * app.
+     *
+     * @throws IllegalValueException if a field is missing or a payment is invalid.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        return toModelType(true);
+    }
+
+    private Person toModelType(boolean isTrusted) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(isTrusted ? tag.toTrustedModelType() : tag.toModelType());
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = isTrusted ? Name.ofTrusted(name) : new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = isTrusted ? Phone.ofTrusted(phone) : new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isTrusted && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = isTrusted ? Email.ofTrusted(email) : new Email(email);
 
         if (matriculationNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 MatriculationNumber.class.getSimpleName()));
         }
-        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+        if (!isTrusted && !MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
             throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
         }
-        final MatriculationNumber modelmatriculationNumber = new MatriculationNumber(matriculationNumber);
+        final MatriculationNumber modelmatriculationNumber = isTrusted
+            ? MatriculationNumber.ofTrusted(matriculationNumber)
+            : new MatriculationNumber(matriculationNumber);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
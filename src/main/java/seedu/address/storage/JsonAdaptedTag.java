@@ -45,4 +45,11 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Similar to {@link #toModelType()}, but does not check that the tag name is valid.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
+    }
+
 }
@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book from a json file one token at a time, converting each person to the model as soon as it
+ * has been read. Only the {@link JsonAdaptedPerson} being read is held in memory, rather than the whole file or a
+ * {@link JsonSerializableAddressBook} of all persons.
+ * Files written from a {@link JsonSerializableAddressBook} or by a {@link JsonAddressBookWriter} are read alike, and
+ * invalid persons are reported with the same messages.
+ */
+class JsonAddressBookReader {
+
+    /**
+     * Receives the progress of a read after each person.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        /**
+         * Called after {@code personsRead} persons, ending at byte {@code bytesRead} of a file of
+         * {@code totalBytes} bytes, have been read.
+         */
+        void onProgress(int personsRead, long bytesRead, long totalBytes);
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** The number of persons read before converting them in parallel. */
+    private static final int BATCH_SIZE = 1024;
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private final ProgressListener progressListener;
+    private final boolean isParallel;
+
+    /**
+     * Creates a reader that converts persons one at a time and reports its progress to {@code progressListener}.
+     */
+    JsonAddressBookReader(ProgressListener progressListener) {
+        this(progressListener, false);
+    }
+
+    /**
+     * Creates a reader that reports its progress to {@code progressListener}.
+     * If {@code isParallel} is true, persons are read in batches and each batch is converted to the model on the
+     * common {@code ForkJoinPool}. Persons keep their order in the file, and the first invalid person in the file
+     * is reported as when converting one at a time.
+     */
+    JsonAddressBookReader(ProgressListener progressListener, boolean isParallel) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Returns the address book in the file at {@code filePath}, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read or is not a valid json file.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    Optional<AddressBook> read(Path filePath) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        boolean isTrusted = JsonChecksum.matches(filePath);
+        if (!isTrusted) {
+            logger.fine("JSON file " + filePath + " does not match its checksum, validating all persons.");
+        }
+
+        List<Person> persons;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+                JsonParser parser = jsonFactory.createParser(in)) {
+            persons = readAddressBook(parser, Files.size(filePath), isTrusted);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the address book, converting the persons without validating them if {@code isTrusted} is true.
+     */
+    private List<Person> readAddressBook(JsonParser parser, long totalBytes, boolean isTrusted) throws IOException,
+            IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        List<Person> persons = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!field.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+            expect(parser, value, JsonToken.START_ARRAY);
+            persons = isParallel
+                    ? readPersonsInParallel(parser, totalBytes, isTrusted)
+                    : readPersons(parser, totalBytes, isTrusted);
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        if (persons == null) {
+            throw new JsonParseException(parser, "Missing persons array");
+        }
+        return persons;
+    }
+
+    private List<Person> readPersons(JsonParser parser, long totalBytes, boolean isTrusted) throws IOException,
+            IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            persons.add(toModelType(readPerson(parser), isTrusted));
+            progressListener.onProgress(persons.size(), parser.getCurrentLocation().getByteOffset(), totalBytes);
+        }
+        return persons;
+    }
+
+    private List<Person> readPersonsInParallel(JsonParser parser, long totalBytes, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        long[] batchEndOffsets = new long[BATCH_SIZE];
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson person = readPerson(parser);
+                batchEndOffsets[batch.size()] = parser.getCurrentLocation().getByteOffset();
+                batch.add(person);
+                if (batch.size() == BATCH_SIZE) {
+                    convertBatch(batch, batchEndOffsets, persons, totalBytes, isTrusted);
+                }
+            }
+        } catch (IOException e) {
+            // an invalid person before the malformed json is reported first, as when converting one at a time
+            convertBatch(batch, batchEndOffsets, persons, totalBytes, isTrusted);
+            throw e;
+        }
+        convertBatch(batch, batchEndOffsets, persons, totalBytes, isTrusted);
+        return persons;
+    }
+
+    /**
+     * Converts the persons in {@code batch} in parallel, adds them to {@code persons} in order and clears
+     * {@code batch}.
+     *
+     * @throws IllegalValueException if a person in the batch is invalid, for the first such person.
+     */
+    private void convertBatch(List<JsonAdaptedPerson> batch, long[] batchEndOffsets, List<Person> persons,
+            long totalBytes, boolean isTrusted) throws IllegalValueException {
+        Person[] converted = new Person[batch.size()];
+        Exception[] failures = new Exception[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = toModelType(batch.get(i), isTrusted);
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (int i = 0; i < converted.length; i++) {
+            if (failures[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) failures[i];
+            } else if (failures[i] != null) {
+                throw (RuntimeException) failures[i];
+            }
+            persons.add(converted[i]);
+            progressListener.onProgress(persons.size(), batchEndOffsets[i], totalBytes);
+        }
+        batch.clear();
+    }
+
+    private static Person toModelType(JsonAdaptedPerson person, boolean isTrusted) throws IllegalValueException {
+        return isTrusted ? person.toTrustedModelType() : person.toModelType();
+    }
+
+    private static JsonAdaptedPerson readPerson(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String matriculationNumber = null;
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        Boolean archived = null;
+        List<JsonAdaptedPayment> payments = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "matriculationNumber":
+            case "matriculation number":
+                matriculationNumber = readString(parser);
+                break;
+            case "tags":
+                if (value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tags.add(new JsonAdaptedTag(readString(parser)));
+                    }
+                }
+                break;
+            case "archived":
+                archived = readBoolean(parser);
+                break;
+            case "payments":
+                if (value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        payments.add(readPayment(parser));
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return new JsonAdaptedPerson(name, phone, email, matriculationNumber, tags, archived, payments);
+    }
+
+    private static JsonAdaptedPayment readPayment(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String amount = null;
+        String date = null;
+        String remarks = null;
+        String recordedAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "amount":
+                amount = readString(parser);
+                break;
+            case "date":
+                date = readString(parser);
+                break;
+            case "remarks":
+                remarks = readString(parser);
+                break;
+            case "recordedAt":
+                recordedAt = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return new JsonAdaptedPayment(amount, date, remarks, recordedAt);
+    }
+
+    /**
+     * Returns the current scalar value as a string, or null if it is null.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string but found " + token);
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Returns the current value as a boolean, or null if it is null.
+     */
+    private static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_STRING && (parser.getText().equals("true") || parser.getText().equals("false"))) {
+            return Boolean.valueOf(parser.getText());
+        }
+        throw new JsonParseException(parser, "Expected a boolean but found " + token);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
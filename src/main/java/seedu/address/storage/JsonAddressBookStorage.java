@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,20 +13,63 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * In journal mode, a save appends the persons changed since the previous save to a journal next to the json file
+ * instead of rewriting the whole file. The json file is rewritten as a checkpoint once the journal holds
+ * {@code checkpointInterval} changes, when the changes cannot be journalled, and by
+ * {@link #checkpointAddressBook()}. Reading always applies the journal, if any, to the json file.
+ * The json file is written by a {@link JsonAddressBookWriter}, which streams it straight from the model.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The number of changes journalled between checkpoints in the {@code JOURNAL} data file format. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 200;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int checkpointInterval;
+    private final AddressBookJournal journal;
+    private final JsonAddressBookWriter writer;
+
+    // the persons in the json file and journal at filePath, or null if they are not known or the journal must be
+    // replaced before it is appended to
+    private List<Person> savedPersons;
+    private int journalRecordCount;
 
+    /**
+     * Creates a storage that rewrites the whole json file at {@code filePath} on every save.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage in journal mode that rewrites the json file at {@code filePath} after every
+     * {@code checkpointInterval} journalled changes, or on every save if {@code checkpointInterval} is 0.
+     */
+    public JsonAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, int)}, but writes the json file without any whitespace if
+     * {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, int checkpointInterval, boolean isCompact) {
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative.");
+        }
         this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+        this.journal = new AddressBookJournal(filePath);
+        this.writer = new JsonAddressBookWriter(isCompact);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +90,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        Optional<AddressBook> readAddressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            readAddressBook = new JsonAddressBookReader(new LoggingProgressListener(filePath), true).read(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        if (!readAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = readAddressBook.get();
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        AddressBookJournal.Replay replay = (isOwnFile ? journal : new AddressBookJournal(filePath))
+                .replay(addressBook.getPersonList());
+        if (replay.getRecordCount() > 0) {
+            addressBook.setPersons(replay.getPersons());
+        }
+        if (isOwnFile) {
+            savedPersons = replay.canAppend() ? new ArrayList<>(replay.getPersons()) : null;
+            journalRecordCount = replay.getRecordCount();
+        }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -73,8 +130,88 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!filePath.equals(this.filePath)) {
+            writeCheckpoint(addressBook, new AddressBookJournal(filePath));
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (checkpointInterval > 0 && savedPersons != null) {
+            Optional<List<JsonJournalRecord>> changes = AddressBookJournal.diff(savedPersons, persons);
+            if (changes.isPresent() && journalRecordCount + changes.get().size() <= checkpointInterval) {
+                appendToJournal(changes.get());
+                savedPersons = persons;
+                return;
+            }
+        }
+
+        checkpoint(addressBook, persons);
+    }
+
+    @Override
+    public void checkpointAddressBook() throws IOException {
+        if (savedPersons == null || journalRecordCount == 0) {
+            return;
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(savedPersons);
+        checkpoint(addressBook, savedPersons);
+    }
+
+    /**
+     * Writes {@code addressBook}, whose persons are {@code persons}, to the json file at {@code filePath} and
+     * starts a new journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, List<Person> persons) throws IOException {
+        // if writing fails, the saved persons are unknown until the next checkpoint succeeds
+        savedPersons = null;
+        writeCheckpoint(addressBook, journal);
+        savedPersons = persons;
+        journalRecordCount = 0;
+    }
+
+    private void appendToJournal(List<JsonJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            journal.append(records, journalRecordCount == 0);
+        } catch (IOException e) {
+            // the journal may now end in a partial record, so it must be replaced by the next save
+            savedPersons = null;
+            throw e;
+        }
+        journalRecordCount += records.size();
+    }
+
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, AddressBookJournal journal) throws IOException {
+        FileUtil.createParentDirsOfFile(journal.getCheckpointPath());
+        writer.write(addressBook, journal.getCheckpointPath());
+        journal.delete();
+    }
+
+    /**
+     * Logs the progress of reading a json file each time another tenth of the file has been read.
+     */
+    private static class LoggingProgressListener implements JsonAddressBookReader.ProgressListener {
+        private static final int STEPS = 10;
+
+        private final Path filePath;
+        private int lastStep;
+
+        LoggingProgressListener(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void onProgress(int personsRead, long bytesRead, long totalBytes) {
+            int step = totalBytes <= 0 ? STEPS : (int) Math.min(STEPS, bytesRead * STEPS / totalBytes);
+            if (step > lastStep) {
+                lastStep = step;
+                logger.fine(String.format("Read %d persons (%d%%) from %s", personsRead, step * 100 / STEPS,
+                        filePath));
+            }
+        }
     }
 
 }
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a json file one token at a time, straight from the model.
+ * The file has the same properties in the same order as one written from a {@link JsonSerializableAddressBook},
+ * but no copy of the address book or of the json document is held in memory while writing.
+ */
+class JsonAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final boolean isCompact;
+
+    /**
+     * Creates a writer that writes compact json, without any whitespace, if {@code isCompact} is true, or
+     * pretty-printed json otherwise.
+     */
+    JsonAddressBookWriter(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing the file if it exists, followed by its
+     * {@link JsonChecksum checksum file}.
+     */
+    void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // the old checksum is removed first, so a partly written file is never trusted
+        JsonChecksum.delete(filePath);
+        Checksum checksum = JsonChecksum.newChecksum();
+        try (OutputStream out = new BufferedOutputStream(
+                new CheckedOutputStream(Files.newOutputStream(filePath), checksum), BUFFER_SIZE);
+                JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        JsonChecksum.write(filePath, checksum.getValue());
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeBooleanField("archived", person.isArchived());
+        generator.writeArrayFieldStart("payments");
+        PaymentLedger payments = person.getPaymentLedger();
+        for (int i = 0; i < payments.size(); i++) {
+            writePayment(generator, payments, i);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("matriculationNumber", person.getMatriculationNumber().value);
+        generator.writeEndObject();
+    }
+
+    private static void writePayment(JsonGenerator generator, PaymentLedger payments, int index) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("amount", Amount.formatCents(payments.getCents(index)));
+        generator.writeStringField("date", DateTimeUtil.formatDate(LocalDate.ofEpochDay(payments.getEpochDay(index))));
+        String remarks = payments.getRemarks(index);
+        if (remarks == null) {
+            generator.writeNullField("remarks");
+        } else {
+            generator.writeStringField("remarks", remarks);
+        }
+        generator.writeStringField("recordedAt", DateTimeUtil.formatDateTime(payments.getRecordedAt(index)));
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the checksum file of a json data file, which holds the CRC32C of the json file as written by
+ * this app, in hexadecimal.
+ *
+ * The checksum is kept in a file of its own so that the json file stays plain json that can be edited by hand.
+ * A json file that was edited, corrupted or only partly written no longer matches its checksum, as does one whose
+ * checksum file is missing.
+ */
+class JsonChecksum {
+
+    static final String FILE_SUFFIX = ".crc32c";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private JsonChecksum() {} // prevent instantiation
+
+    /**
+     * Returns a new checksum of the kind kept in checksum files.
+     */
+    static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    /**
+     * Returns the path of the checksum file of the json file at {@code filePath}.
+     * For example, {@code data/addressbook.json} has the checksum file {@code data/addressbook.json.crc32c}.
+     */
+    static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code checksum} as the checksum of the json file at {@code filePath}.
+     */
+    static void write(Path filePath, long checksum) throws IOException {
+        FileUtil.writeToFile(getChecksumFilePath(filePath), Long.toHexString(checksum));
+    }
+
+    /**
+     * Deletes the checksum file of the json file at {@code filePath}, if any.
+     */
+    static void delete(Path filePath) throws IOException {
+        Files.deleteIfExists(getChecksumFilePath(filePath));
+    }
+
+    /**
+     * Returns true if the json file at {@code filePath} matches its checksum file.
+     * Returns false if either file is missing or cannot be read.
+     */
+    static boolean matches(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!Files.exists(checksumFilePath)) {
+            return false;
+        }
+        try {
+            long expected = Long.parseUnsignedLong(FileUtil.readFromFile(checksumFilePath).trim(), 16);
+            return compute(filePath) == expected;
+        } catch (IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static long compute(Path filePath) throws IOException {
+        Checksum checksum = newChecksum();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+}
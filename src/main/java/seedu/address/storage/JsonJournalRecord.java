@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one line of an {@link AddressBookJournal}.
+ * The first line of a journal is a checkpoint record identifying the data file the journal applies to, and each
+ * following line is a change to a person since that data file was written: the person added, replaced or removed
+ * as a whole, or one payment of the person added, edited or removed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    static final String CHECKPOINT = "checkpoint";
+    static final String UPSERT = "upsert";
+    static final String DELETE = "delete";
+    static final String ADD_PAYMENT = "addpayment";
+    static final String EDIT_PAYMENT = "editpayment";
+    static final String REMOVE_PAYMENT = "removepayment";
+
+    static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final Long checkpointSize;
+    private final Long checkpointModified;
+    private final JsonAdaptedPerson person;
+    private final String matriculationNumber;
+    private final JsonAdaptedPayment payment;
+    private final Integer paymentIndex;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given JSON properties.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op,
+                             @JsonProperty("checkpointSize") Long checkpointSize,
+                             @JsonProperty("checkpointModified") Long checkpointModified,
+                             @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("matriculation number") String matriculationNumber,
+                             @JsonProperty("payment") JsonAdaptedPayment payment,
+                             @JsonProperty("paymentIndex") Integer paymentIndex) {
+        this.op = op;
+        this.checkpointSize = checkpointSize;
+        this.checkpointModified = checkpointModified;
+        this.person = person;
+        this.matriculationNumber = matriculationNumber;
+        this.payment = payment;
+        this.paymentIndex = paymentIndex;
+    }
+
+    /**
+     * Returns a record identifying a data file of {@code size} bytes last modified at {@code modifiedMillis}.
+     */
+    static JsonJournalRecord checkpoint(long size, long modifiedMillis) {
+        return new JsonJournalRecord(CHECKPOINT, size, modifiedMillis, null, null, null, null);
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the person with the same matriculation number.
+     */
+    static JsonJournalRecord upsert(Person person) {
+        return new JsonJournalRecord(UPSERT, null, null, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    /**
+     * Returns a record that removes the person with {@code matriculationNumber}.
+     */
+    static JsonJournalRecord delete(MatriculationNumber matriculationNumber) {
+        return new JsonJournalRecord(DELETE, null, null, null, matriculationNumber.value, null, null);
+    }
+
+    /**
+     * Returns a record that appends {@code payment} to the payments of the person with {@code matriculationNumber}.
+     */
+    static JsonJournalRecord addPayment(MatriculationNumber matriculationNumber, Payment payment) {
+        return new JsonJournalRecord(ADD_PAYMENT, null, null, null, matriculationNumber.value,
+                new JsonAdaptedPayment(payment), null);
+    }
+
+    /**
+     * Returns a record that replaces the payment at {@code paymentIndex} of the person with
+     * {@code matriculationNumber} by {@code payment}.
+     */
+    static JsonJournalRecord editPayment(MatriculationNumber matriculationNumber, int paymentIndex, Payment payment) {
+        return new JsonJournalRecord(EDIT_PAYMENT, null, null, null, matriculationNumber.value,
+                new JsonAdaptedPayment(payment), paymentIndex);
+    }
+
+    /**
+     * Returns a record that removes the payment at {@code paymentIndex} of the person with
+     * {@code matriculationNumber}.
+     */
+    static JsonJournalRecord removePayment(MatriculationNumber matriculationNumber, int paymentIndex) {
+        return new JsonJournalRecord(REMOVE_PAYMENT, null, null, null, matriculationNumber.value, null,
+                paymentIndex);
+    }
+
+    /**
+     * Returns true if this is a checkpoint record for a data file of {@code size} bytes last modified at
+     * {@code modifiedMillis}.
+     */
+    boolean isCheckpointOf(long size, long modifiedMillis) {
+        return CHECKPOINT.equals(op) && checkpointSize != null && checkpointSize == size
+                && checkpointModified != null && checkpointModified == modifiedMillis;
+    }
+
+    /**
+     * Applies this change to {@code persons}, which maps matriculation numbers to persons in list order.
+     * A replaced person keeps its position and an added person is placed last.
+     *
+     * @throws IllegalValueException if this is not a valid change record.
+     */
+    void applyTo(Map<MatriculationNumber, Person> persons) throws IllegalValueException {
+        if (UPSERT.equals(op) && person != null) {
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getMatriculationNumber(), modelPerson);
+        } else if (DELETE.equals(op) && matriculationNumber != null) {
+            persons.remove(toModelMatriculationNumber());
+        } else if (ADD_PAYMENT.equals(op) && matriculationNumber != null && payment != null) {
+            MatriculationNumber key = toModelMatriculationNumber();
+            persons.put(key, getPerson(persons, key).withAddedPayment(payment.toModelType()));
+        } else if (EDIT_PAYMENT.equals(op) && matriculationNumber != null && payment != null
+                && paymentIndex != null) {
+            MatriculationNumber key = toModelMatriculationNumber();
+            Person person = getPerson(persons, key);
+            checkPaymentIndex(person);
+            persons.put(key, person.withEditedPayment(paymentIndex, payment.toModelType()));
+        } else if (REMOVE_PAYMENT.equals(op) && matriculationNumber != null && paymentIndex != null) {
+            MatriculationNumber key = toModelMatriculationNumber();
+            Person person = getPerson(persons, key);
+            checkPaymentIndex(person);
+            persons.put(key, person.withRemovedPayment((int) paymentIndex));
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+
+    private MatriculationNumber toModelMatriculationNumber() throws IllegalValueException {
+        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new MatriculationNumber(matriculationNumber);
+    }
+
+    private Person getPerson(Map<MatriculationNumber, Person> persons, MatriculationNumber key)
+            throws IllegalValueException {
+        Person person = persons.get(key);
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " of a missing person"));
+        }
+        return person;
+    }
+
+    private void checkPaymentIndex(Person person) throws IllegalValueException {
+        if (paymentIndex < 0 || paymentIndex >= person.getPaymentCount()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " of a missing payment"));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly description of the segment files of a {@link SegmentedAddressBookStorage}.
+ */
+class JsonSegmentManifest {
+
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT = "Segment count must be positive.";
+
+    private final Integer segmentCount;
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given JSON properties.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("segmentCount") Integer segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns the number of segments the persons are split into.
+     *
+     * @throws IllegalValueException if the segment count is missing or not positive.
+     */
+    public int getSegmentCount() throws IllegalValueException {
+        if (segmentCount == null || segmentCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        return segmentCount;
+    }
+}
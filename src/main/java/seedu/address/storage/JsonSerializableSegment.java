@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * A segment of the persons of an address book that is serializable to JSON format.
+ * Each person is stored with its sequence number, which orders the persons across all segments.
+ */
+class JsonSerializableSegment {
+
+    public static final String MESSAGE_DUPLICATE_SEQUENCE_NUMBER = "Segment contains duplicate sequence number(s).";
+
+    private final List<Entry> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given persons.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("persons") List<Entry> persons) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given persons, keyed by sequence number, into this class for Jackson use.
+     */
+    public JsonSerializableSegment(SortedMap<Long, Person> source) {
+        source.forEach((sequenceNumber, person) ->
+                persons.add(new Entry(sequenceNumber, new JsonAdaptedPerson(person))));
+    }
+
+    /**
+     * Converts this segment into the model's {@code Person} objects, keyed by sequence number.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public SortedMap<Long, Person> toModelType() throws IllegalValueException {
+        SortedMap<Long, Person> modelPersons = new TreeMap<>();
+        for (Entry entry : persons) {
+            if (entry.sequenceNumber == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                        "sequence number"));
+            }
+            if (entry.person == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                        "details"));
+            }
+            if (modelPersons.put(entry.sequenceNumber, entry.person.toModelType()) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SEQUENCE_NUMBER);
+            }
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Jackson-friendly version of a person and its sequence number.
+     */
+    static class Entry {
+        private final Long sequenceNumber;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs an {@code Entry} with the given JSON properties.
+         */
+        @JsonCreator
+        public Entry(@JsonProperty("sequenceNumber") Long sequenceNumber,
+                     @JsonProperty("person") JsonAdaptedPerson person) {
+            this.sequenceNumber = sequenceNumber;
+            this.person = person;
+        }
+    }
+}
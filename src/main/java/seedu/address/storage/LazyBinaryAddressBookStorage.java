@@ -0,0 +1,414 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.payment.PaymentLoader;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PaymentFile.StoredPayments;
+
+/**
+ * A class to access AddressBook data stored as binary files on the hard disk, where the payments of each person are
+ * only read when first needed.
+ *
+ * The persons file holds every person without their payments, as written by a {@code DataOutputStream}:
+ * <pre>
+ * file   := MAGIC VERSION generation:long personCount:int person*
+ * person := name phone email matriculationNumber archived:boolean tagCount:int tagName*
+ *           paymentCount:int totalPaidCents:long lastPaymentEpochDay:long paymentsOffset:long paymentsLength:int
+ * </pre>
+ * The payments are kept in blocks of a {@link PaymentFile} next to it, whose name ends in the generation, and the
+ * persons file gives the block of each person. Reading the address book creates each person with a loader for their
+ * block, so loading starts without reading any payments, and the payment count, total and last payment day come from
+ * the persons file. Version 1 files have no last payment day, so the payments of each person are read to find it.
+ *
+ * A save appends blocks only for the persons whose payments have changed, and keeps the blocks of the others. Once
+ * more than half of the payment file is no longer in use, the blocks in use are copied to the file of the next
+ * generation, which the persons file refers to from then on.
+ */
+public class LazyBinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".lazy";
+
+    static final int MAGIC = 0x4142334C; // "AB3L"
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_LAST_PAYMENT_DAY = 1;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String PAYMENT_FILE_SUFFIX = ".payments-";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final long MIN_COMPACTED_SIZE = 64 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Logger logger = LogsCenter.getLogger(LazyBinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonImportFilePath;
+
+    // the payment file of filePath, and the blocks appended to it for payments that were not loaded from it
+    private long generation;
+    private PaymentFile paymentFile;
+    private Map<MatriculationNumber, AppendedPayments> appendedPayments = new HashMap<>();
+
+    /**
+     * Creates a storage for the persons file at {@code filePath}.
+     */
+    public LazyBinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the persons file at {@code filePath} that reads the json file at
+     * {@code jsonImportFilePath} instead while there is no file at {@code filePath}.
+     */
+    public LazyBinaryAddressBookStorage(Path filePath, Path jsonImportFilePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonImportFilePath = jsonImportFilePath;
+        this.paymentFile = new PaymentFile(getPaymentFilePath(filePath, generation));
+    }
+
+    /**
+     * Returns the path of the persons file to use in place of the json file at {@code jsonFilePath}.
+     * For example, {@code data/addressbook.json} becomes {@code data/addressbook.lazy}.
+     */
+    public static Path toLazyFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the payment file of the given generation for the persons file at {@code filePath}.
+     * For example, generation 2 of {@code data/addressbook.lazy} is {@code data/addressbook.lazy.payments-2}.
+     */
+    static Path getPaymentFilePath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + PAYMENT_FILE_SUFFIX + generation);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath) && jsonImportFilePath != null) {
+            logger.info("Persons file " + filePath + " not found, importing " + jsonImportFilePath);
+            return new JsonAddressBookStorage(jsonImportFilePath).readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but does not import from the json file.
+     *
+     * @param filePath location of the persons file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Persons file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            long fileSize = Files.size(filePath);
+            if (fileSize < Integer.BYTES * 2 || in.readInt() != MAGIC) {
+                throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = in.readInt();
+            if (version != VERSION && version != VERSION_WITHOUT_LAST_PAYMENT_DAY) {
+                throw new StreamCorruptedException(
+                        String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            long fileGeneration = in.readLong();
+            PaymentFile filePayments = new PaymentFile(getPaymentFilePath(filePath, fileGeneration));
+            long paymentFileSize = filePayments.size();
+            int personCount = BinaryAddressBookFormat.readCount(in, fileSize);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in, version, fileSize, filePayments, paymentFileSize));
+            }
+            if (in.read() != -1) {
+                throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_CORRUPTED);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            if (filePath.equals(this.filePath)) {
+                generation = fileGeneration;
+                paymentFile = filePayments;
+                appendedPayments = new HashMap<>();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from persons file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than the storage's own writes a new payment file for it, copying the stored payments
+     * without loading them.
+     *
+     * @param filePath location of the persons file. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        if (!filePath.equals(this.filePath)) {
+            PaymentFile otherPaymentFile = new PaymentFile(getPaymentFilePath(filePath, 0));
+            Files.deleteIfExists(otherPaymentFile.getPath());
+            List<StoredPayments> blocks = storePayments(addressBook.getPersonList(), otherPaymentFile,
+                    new HashMap<>(), new HashMap<>());
+            writePersons(addressBook.getPersonList(), blocks, 0, filePath);
+            return;
+        }
+
+        Map<MatriculationNumber, AppendedPayments> nextAppendedPayments = new HashMap<>();
+        List<StoredPayments> blocks = storePayments(addressBook.getPersonList(), paymentFile, appendedPayments,
+                nextAppendedPayments);
+        appendedPayments = nextAppendedPayments;
+
+        Path oldPaymentFilePath = null;
+        if (isMostlyUnused(blocks)) {
+            oldPaymentFilePath = paymentFile.getPath();
+            paymentFile.compact(blocks, getPaymentFilePath(filePath, generation + 1));
+            generation++;
+            logger.fine("Compacted " + oldPaymentFilePath + " to " + paymentFile.getPath());
+        }
+        writePersons(addressBook.getPersonList(), blocks, generation, filePath);
+        if (oldPaymentFilePath != null) {
+            Files.deleteIfExists(oldPaymentFilePath);
+        }
+    }
+
+    @Override
+    public void checkpointAddressBook() {
+        // every save writes the whole persons file
+    }
+
+    /**
+     * Returns the blocks of {@code target} that hold the payments of {@code persons} in order, with null for a person
+     * without payments. Payments that are already in {@code target} are kept, and the others are appended to it.
+     *
+     * @param appended the payments appended to {@code target} by the previous save, which are kept if unchanged.
+     * @param nextAppended the map to record the payments appended to {@code target} in.
+     */
+    private static List<StoredPayments> storePayments(List<Person> persons, PaymentFile target,
+            Map<MatriculationNumber, AppendedPayments> appended,
+            Map<MatriculationNumber, AppendedPayments> nextAppended) throws IOException {
+        List<StoredPayments> blocks = new ArrayList<>(persons.size());
+        try (PaymentFile.Appender appender = target.openAppender()) {
+            for (Person person : persons) {
+                PaymentLoader loader = person.getPaymentLoader();
+                if (person.getPaymentCount() == 0) {
+                    blocks.add(null);
+                } else if (loader instanceof StoredPayments) {
+                    StoredPayments stored = (StoredPayments) loader;
+                    blocks.add(stored.isIn(target) ? stored : appender.copy(stored));
+                } else {
+                    MatriculationNumber matriculationNumber = person.getMatriculationNumber();
+                    PaymentLedger payments = person.getPaymentLedger();
+                    AppendedPayments previous = appended.get(matriculationNumber);
+                    StoredPayments stored = previous != null && previous.payments == payments
+                            ? previous.stored
+                            : appender.append(payments);
+                    nextAppended.put(matriculationNumber, new AppendedPayments(payments, stored));
+                    blocks.add(stored);
+                }
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns true if the blocks in {@code blocks} take up less than half of the payment file, which is large enough
+     * to be worth compacting.
+     */
+    private boolean isMostlyUnused(List<StoredPayments> blocks) throws IOException {
+        long size = paymentFile.size();
+        if (size < MIN_COMPACTED_SIZE) {
+            return false;
+        }
+        Set<Long> offsets = new HashSet<>();
+        long usedSize = 0;
+        for (StoredPayments block : blocks) {
+            if (block != null && offsets.add(block.getOffset())) {
+                usedSize += block.getLength();
+            }
+        }
+        return usedSize * 2 < size;
+    }
+
+    /**
+     * Writes {@code persons}, whose payments are in {@code blocks}, to the persons file at {@code filePath}.
+     * The file is replaced only once it has been written in full, so it always refers to complete payment files.
+     */
+    private static void writePersons(List<Person> persons, List<StoredPayments> blocks, long generation,
+            Path filePath) throws IOException {
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFilePath), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+            out.writeInt(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                writePerson(out, persons.get(i), blocks.get(i));
+            }
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, StoredPayments block) throws IOException {
+        BinaryAddressBookFormat.writeString(out, person.getName().fullName);
+        BinaryAddressBookFormat.writeString(out, person.getPhone().value);
+        BinaryAddressBookFormat.writeString(out, person.getEmail().value);
+        BinaryAddressBookFormat.writeString(out, person.getMatriculationNumber().value);
+        out.writeBoolean(person.isArchived());
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            BinaryAddressBookFormat.writeString(out, tag.tagName);
+        }
+
+        out.writeInt(person.getPaymentCount());
+        out.writeLong(person.getTotalPaidCents());
+        out.writeLong(person.getLastPaymentEpochDay());
+        out.writeLong(block == null ? 0 : block.getOffset());
+        out.writeInt(block == null ? 0 : block.getLength());
+    }
+
+    private static Person readPerson(DataInputStream in, int version, long fileSize, PaymentFile paymentFile,
+            long paymentFileSize) throws IOException, IllegalValueException {
+        String name = BinaryAddressBookFormat.readString(in, fileSize);
+        String phone = BinaryAddressBookFormat.readString(in, fileSize);
+        String email = BinaryAddressBookFormat.readString(in, fileSize);
+        String matriculationNumber = BinaryAddressBookFormat.readString(in, fileSize);
+        boolean archived = in.readBoolean();
+
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = BinaryAddressBookFormat.readCount(in, fileSize);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = BinaryAddressBookFormat.readString(in, fileSize);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int paymentCount = BinaryAddressBookFormat.readCount(in, paymentFileSize);
+        long totalPaidCents = in.readLong();
+        long lastPaymentEpochDay = version == VERSION_WITHOUT_LAST_PAYMENT_DAY
+                ? Person.NO_PAYMENT_EPOCH_DAY
+                : in.readLong();
+        long paymentsOffset = in.readLong();
+        int paymentsLength = in.readInt();
+        if (paymentsOffset < 0 || paymentsLength < 0 || paymentsOffset > paymentFileSize - paymentsLength) {
+            throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_CORRUPTED);
+        }
+
+        if (paymentCount == 0) {
+            if (totalPaidCents != 0 || lastPaymentEpochDay != Person.NO_PAYMENT_EPOCH_DAY) {
+                throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_CORRUPTED);
+            }
+            return new Person(new Name(name), new Phone(phone), new Email(email),
+                    new MatriculationNumber(matriculationNumber), tags, archived, List.of());
+        }
+        StoredPayments payments = paymentFile.getStoredPayments(paymentsOffset, paymentsLength, paymentCount,
+                totalPaidCents);
+        if (version == VERSION_WITHOUT_LAST_PAYMENT_DAY) {
+            try {
+                lastPaymentEpochDay = payments.load().getLastEpochDay();
+            } catch (PaymentLoadingException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email),
+                new MatriculationNumber(matriculationNumber), tags, archived, paymentCount, totalPaidCents,
+                lastPaymentEpochDay, payments);
+    }
+
+    /**
+     * Payments that were appended to the payment file by a save, and the block they were appended as.
+     */
+    private static class AppendedPayments {
+        private final PaymentLedger payments;
+        private final StoredPayments stored;
+
+        private AppendedPayments(PaymentLedger payments, StoredPayments stored) {
+            this.payments = payments;
+            this.stored = stored;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.payment.PaymentLoader;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
+
+/**
+ * An append-only file of blocks that each hold the payments of one person, as written by a {@code DataOutputStream}:
+ * <pre>
+ * block   := payment*
+ * payment := cents:long epochDay:long recordedAtEpochSecond:long recordedAtNano:int hasRemarks:boolean remarks?
+ * remarks := length:int utf8Bytes
+ * </pre>
+ * A block is read only when its payments are first needed, through the {@link StoredPayments} for it. Blocks are
+ * never changed once written, so blocks can be read while others are appended, and a block still in use can be kept
+ * by the next save instead of being written again. {@link #compact} moves the blocks still in use to a new file.
+ */
+class PaymentFile {
+
+    // guarded by this, as compact moves every StoredPayments of this file to the new path
+    private Path path;
+
+    PaymentFile(Path path) {
+        this.path = path;
+    }
+
+    synchronized Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the size of the file in bytes, or 0 if it does not exist.
+     */
+    synchronized long size() throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    /**
+     * Returns the payments in the block of {@code length} bytes at {@code offset}, which are {@code count} payments
+     * that amount to {@code totalCents}.
+     */
+    StoredPayments getStoredPayments(long offset, int length, int count, long totalCents) {
+        return new StoredPayments(this, offset, length, count, totalCents);
+    }
+
+    /**
+     * Opens the file for appending blocks, creating it if it does not exist.
+     */
+    Appender openAppender() throws IOException {
+        return new Appender(FileChannel.open(getPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Copies the blocks of {@code inUse} to a new file at {@code newPath}, and moves each of {@code inUse} to its
+     * copy, ignoring null elements. Blocks of this file that are not in {@code inUse} cannot be read afterwards.
+     * The old file is left in place.
+     */
+    void compact(Collection<StoredPayments> inUse, Path newPath) throws IOException {
+        Map<StoredPayments, Long> newOffsets = new IdentityHashMap<>();
+        try (Appender appender = new Appender(FileChannel.open(newPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))) {
+            for (StoredPayments payments : inUse) {
+                if (payments != null && payments.file == this && !newOffsets.containsKey(payments)) {
+                    newOffsets.put(payments, appender.write(payments.readBlock()));
+                }
+            }
+            appender.channel.force(false);
+        }
+
+        synchronized (this) {
+            path = newPath;
+            newOffsets.forEach(StoredPayments::moveTo);
+        }
+    }
+
+    /**
+     * Writes {@code payments} as a block.
+     */
+    private static byte[] encode(PaymentLedger payments) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int i = 0; i < payments.size(); i++) {
+            LocalDateTime recordedAt = payments.getRecordedAt(i);
+            String remarks = payments.getRemarks(i);
+            out.writeLong(payments.getCents(i));
+            out.writeLong(payments.getEpochDay(i));
+            out.writeLong(recordedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(recordedAt.getNano());
+            out.writeBoolean(remarks != null);
+            if (remarks != null) {
+                BinaryAddressBookFormat.writeString(out, remarks);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the {@code count} payments in {@code block}.
+     */
+    private static List<Payment> decode(byte[] block, int count) throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(block));
+        List<Payment> payments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long cents = in.readLong();
+            long epochDay = in.readLong();
+            long recordedAtEpochSecond = in.readLong();
+            int recordedAtNano = in.readInt();
+            String remarks = in.readBoolean() ? BinaryAddressBookFormat.readString(in, block.length) : null;
+
+            final Amount amount;
+            try {
+                amount = Amount.ofCents(cents);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException("Invalid amount: " + Amount.formatCents(cents));
+            }
+            try {
+                payments.add(new Payment(amount, LocalDate.ofEpochDay(epochDay), remarks,
+                        LocalDateTime.ofEpochSecond(recordedAtEpochSecond, recordedAtNano, ZoneOffset.UTC)));
+            } catch (DateTimeException e) {
+                throw new IllegalValueException("Invalid payment date: " + e.getMessage());
+            }
+        }
+        if (in.read() != -1) {
+            throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_CORRUPTED);
+        }
+        return payments;
+    }
+
+    /**
+     * Appends blocks to a payment file.
+     */
+    class Appender implements Closeable {
+        private final FileChannel channel;
+
+        private Appender(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Appends {@code payments} as a block, and returns the stored payments in it.
+         */
+        StoredPayments append(PaymentLedger payments) throws IOException {
+            byte[] block = encode(payments);
+            return getStoredPayments(write(block), block.length, payments.size(), payments.sumCents());
+        }
+
+        /**
+         * Appends a copy of the block of {@code payments}, which is in another file, and returns the stored payments
+         * in the copy. The block is copied as it is, without reading the payments in it.
+         */
+        StoredPayments copy(StoredPayments payments) throws IOException {
+            byte[] block = payments.readBlock();
+            return getStoredPayments(write(block), block.length, payments.count, payments.totalCents);
+        }
+
+        /**
+         * Writes {@code block} at the end of the file and returns its offset.
+         */
+        private long write(byte[] block) throws IOException {
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(block);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return offset;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * The payments of a person in a block of a {@code PaymentFile}, which are read from the file when loaded.
+     */
+    static final class StoredPayments implements PaymentLoader {
+        private final PaymentFile file;
+        private final int length;
+        private final int count;
+        private final long totalCents;
+        // guarded by file
+        private long offset;
+
+        private StoredPayments(PaymentFile file, long offset, int length, int count, long totalCents) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.count = count;
+            this.totalCents = totalCents;
+        }
+
+        /**
+         * Returns true if these payments are stored in {@code file}.
+         */
+        boolean isIn(PaymentFile file) {
+            return this.file == file;
+        }
+
+        long getOffset() {
+            synchronized (file) {
+                return offset;
+            }
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        @Override
+        public PaymentLedger load() {
+            try {
+                PaymentLedger payments = PaymentLedger.copyOf(decode(readBlock(), count));
+                if (payments.sumCents() != totalCents) {
+                    throw new StreamCorruptedException(BinaryAddressBookFormat.MESSAGE_CORRUPTED);
+                }
+                return payments;
+            } catch (IOException | IllegalValueException | ArithmeticException e) {
+                throw new PaymentLoadingException(e.getMessage(), e);
+            }
+        }
+
+        private byte[] readBlock() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            synchronized (file) {
+                try (FileChannel channel = FileChannel.open(file.path, StandardOpenOption.READ)) {
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, offset + buffer.position()) < 0) {
+                            throw new EOFException();
+                        }
+                    }
+                }
+            }
+            return buffer.array();
+        }
+
+        private void moveTo(long newOffset) {
+            offset = newOffset;
+        }
+    }
+}
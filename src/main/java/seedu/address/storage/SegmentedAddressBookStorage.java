@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as segment files in a directory on the hard disk.
+ *
+ * Persons are split into a fixed number of segments by the hash of their matriculation number, and each segment is
+ * stored as a json file. A manifest in the directory records the number of segments. Each person is stored with a
+ * sequence number that gives its position in the address book, so the segments can be read in parallel and merged
+ * back into order.
+ *
+ * A save rewrites only the segments of the persons changed since the previous save, as reported by
+ * {@link AddressBookSnapshot#getPersonsChangedSince(long)}, and rewrites all segments when those changes are not known
+ * or the order of the persons cannot be kept with the existing sequence numbers.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 1024;
+    public static final String DIRECTORY_EXTENSION = ".segments";
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String SEGMENT_FILE_NAME_FORMAT = "segment-%04d.json";
+    private static final long NOT_SAVED = -1;
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final Path jsonImportFilePath;
+    private final int newSegmentCount;
+
+    // the segments in directoryPath as of the last read or save, which are rewritten in full if savedVersion is
+    // NOT_SAVED
+    private int segmentCount;
+    private long savedVersion = NOT_SAVED;
+    private final Map<MatriculationNumber, Long> sequenceNumbers = new HashMap<>();
+    private long nextSequenceNumber;
+
+    /**
+     * Creates a storage for the segments in the directory at {@code directoryPath}.
+     */
+    public SegmentedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, null, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a storage for the segments in the directory at {@code directoryPath} that reads the json file at
+     * {@code jsonImportFilePath} instead while the directory has no segments, and splits a new address book into
+     * {@code newSegmentCount} segments.
+     */
+    public SegmentedAddressBookStorage(Path directoryPath, Path jsonImportFilePath, int newSegmentCount) {
+        requireNonNull(directoryPath);
+        if (newSegmentCount <= 0) {
+            throw new IllegalArgumentException(JsonSegmentManifest.MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        this.directoryPath = directoryPath;
+        this.jsonImportFilePath = jsonImportFilePath;
+        this.newSegmentCount = newSegmentCount;
+        this.segmentCount = newSegmentCount;
+    }
+
+    /**
+     * Returns the path of the segment directory to use in place of the json file at {@code jsonFilePath}.
+     * For example, {@code data/addressbook.json} becomes {@code data/addressbook.segments}.
+     */
+    public static Path toSegmentDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(directoryPath.resolve(MANIFEST_FILE_NAME)) && jsonImportFilePath != null) {
+            logger.info("Segments " + directoryPath + " not found, importing " + jsonImportFilePath);
+            return new JsonAddressBookStorage(jsonImportFilePath).readAddressBook();
+        }
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but does not import from the json file.
+     *
+     * @param directoryPath location of the segments. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE_NAME), JsonSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            int count = manifest.get().getSegmentCount();
+            List<SortedMap<Long, Person>> segments = readSegments(directoryPath, count);
+
+            SortedMap<Long, Person> persons = new TreeMap<>();
+            boolean isMisplaced = false;
+            for (int i = 0; i < count; i++) {
+                for (Map.Entry<Long, Person> entry : segments.get(i).entrySet()) {
+                    if (persons.put(entry.getKey(), entry.getValue()) != null) {
+                        throw new IllegalValueException(JsonSerializableSegment.MESSAGE_DUPLICATE_SEQUENCE_NUMBER);
+                    }
+                    isMisplaced |= segmentOf(entry.getValue(), count) != i;
+                }
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(new ArrayList<>(persons.values()));
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            if (directoryPath.equals(this.directoryPath)) {
+                segmentCount = count;
+                sequenceNumbers.clear();
+                persons.forEach((sequenceNumber, person) ->
+                        sequenceNumbers.put(person.getMatriculationNumber(), sequenceNumber));
+                nextSequenceNumber = persons.isEmpty() ? 0 : persons.lastKey() + 1;
+                // a person in the wrong segment would be saved to a second segment, so all segments are rewritten
+                savedVersion = isMisplaced ? NOT_SAVED : addressBook.getVersion();
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directoryPath location of the segments. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            saveAllSegments(addressBook.getPersonList(), directoryPath, newSegmentCount);
+            return;
+        }
+
+        long version = savedVersion;
+        // if writing fails, the segments on disk are unknown until all are rewritten
+        savedVersion = NOT_SAVED;
+        AddressBookSnapshot snapshot = toSnapshot(addressBook);
+        Optional<Set<MatriculationNumber>> changed = (version != NOT_SAVED && snapshot != null)
+                ? snapshot.getPersonsChangedSince(version)
+                : Optional.empty();
+        if (!changed.isPresent() || !saveChangedSegments(addressBook.getPersonList(), changed.get())) {
+            sequenceNumbers.clear();
+            nextSequenceNumber = saveAllSegments(addressBook.getPersonList(), directoryPath, segmentCount);
+            addressBook.getPersonList().forEach(person ->
+                    sequenceNumbers.put(person.getMatriculationNumber(), (long) sequenceNumbers.size()));
+        }
+        if (snapshot != null) {
+            savedVersion = snapshot.getVersion();
+        }
+    }
+
+    /**
+     * Returns {@code addressBook} as a snapshot that knows its changes, or null if the changes are not known.
+     */
+    private static AddressBookSnapshot toSnapshot(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return null;
+    }
+
+    @Override
+    public void checkpointAddressBook() {
+        // every save brings all changed segments up to date
+    }
+
+    /**
+     * Rewrites the segments of the persons in {@code changed}, given that {@code persons} differ from the persons in
+     * the saved segments only in those persons.
+     * Returns false without writing anything if the order of {@code persons} cannot be kept with the existing
+     * sequence numbers, such as when a person has moved.
+     */
+    private boolean saveChangedSegments(List<Person> persons, Set<MatriculationNumber> changed) throws IOException {
+        Set<Integer> changedSegments = new HashSet<>();
+        for (MatriculationNumber matriculationNumber : changed) {
+            changedSegments.add(segmentOf(matriculationNumber, segmentCount));
+        }
+
+        // sequence numbers must increase down the list; changed persons that cannot keep theirs take new ones,
+        // which are larger than all existing ones, so this only succeeds if they are last
+        Map<Integer, SortedMap<Long, Person>> segments = new HashMap<>();
+        changedSegments.forEach(segment -> segments.put(segment, new TreeMap<>()));
+        Map<MatriculationNumber, Long> newSequenceNumbers = new HashMap<>();
+        long next = nextSequenceNumber;
+        long previous = -1;
+        for (Person person : persons) {
+            MatriculationNumber matriculationNumber = person.getMatriculationNumber();
+            Long sequenceNumber = sequenceNumbers.get(matriculationNumber);
+            if (sequenceNumber == null || sequenceNumber <= previous) {
+                if (!changed.contains(matriculationNumber)) {
+                    return false;
+                }
+                sequenceNumber = next++;
+                newSequenceNumbers.put(matriculationNumber, sequenceNumber);
+            }
+            previous = sequenceNumber;
+
+            SortedMap<Long, Person> segment = segments.get(segmentOf(matriculationNumber, segmentCount));
+            if (segment != null) {
+                segment.put(sequenceNumber, person);
+            }
+        }
+
+        for (Map.Entry<Integer, SortedMap<Long, Person>> segment : segments.entrySet()) {
+            writeSegment(directoryPath, segment.getKey(), segment.getValue());
+        }
+        logger.fine("Saved " + segments.size() + " of " + segmentCount + " segments to " + directoryPath);
+
+        Set<MatriculationNumber> present = new HashSet<>();
+        persons.forEach(person -> present.add(person.getMatriculationNumber()));
+        for (MatriculationNumber matriculationNumber : changed) {
+            if (!present.contains(matriculationNumber)) {
+                sequenceNumbers.remove(matriculationNumber);
+            }
+        }
+        sequenceNumbers.putAll(newSequenceNumbers);
+        nextSequenceNumber = next;
+        return true;
+    }
+
+    /**
+     * Writes {@code persons} to {@code count} segments in the directory at {@code directoryPath}, numbering them in
+     * order from 0, and returns the next unused sequence number.
+     */
+    private static long saveAllSegments(List<Person> persons, Path directoryPath, int count) throws IOException {
+        List<SortedMap<Long, Person>> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            segments.add(new TreeMap<>());
+        }
+        long sequenceNumber = 0;
+        for (Person person : persons) {
+            segments.get(segmentOf(person, count)).put(sequenceNumber++, person);
+        }
+
+        Files.createDirectories(directoryPath);
+        FileUtil.writeToFile(directoryPath.resolve(MANIFEST_FILE_NAME),
+                JsonUtil.toJsonString(new JsonSegmentManifest(count)));
+        for (int i = 0; i < count; i++) {
+            writeSegment(directoryPath, i, segments.get(i));
+        }
+        return sequenceNumber;
+    }
+
+    /**
+     * Reads the {@code count} segments in the directory at {@code directoryPath} in parallel.
+     */
+    private static List<SortedMap<Long, Person>> readSegments(Path directoryPath, int count)
+            throws DataLoadingException, IllegalValueException {
+        List<SortedMap<Long, Person>> segments = new ArrayList<>(Collections.nCopies(count, null));
+        Exception[] failures = new Exception[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            try {
+                Optional<JsonSerializableSegment> segment = JsonUtil.readJsonFile(
+                        getSegmentPath(directoryPath, i), JsonSerializableSegment.class);
+                segments.set(i, segment.isPresent() ? segment.get().toModelType() : new TreeMap<>());
+            } catch (DataLoadingException | IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (Exception failure : failures) {
+            if (failure instanceof DataLoadingException) {
+                throw (DataLoadingException) failure;
+            } else if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+        }
+        return segments;
+    }
+
+    private static void writeSegment(Path directoryPath, int segment, SortedMap<Long, Person> persons)
+            throws IOException {
+        Path segmentPath = getSegmentPath(directoryPath, segment);
+        if (persons.isEmpty()) {
+            Files.deleteIfExists(segmentPath);
+            return;
+        }
+        FileUtil.writeToFile(segmentPath, JsonUtil.toCompactJsonString(new JsonSerializableSegment(persons)));
+    }
+
+    private static Path getSegmentPath(Path directoryPath, int segment) {
+        return directoryPath.resolve(String.format(SEGMENT_FILE_NAME_FORMAT, segment));
+    }
+
+    private static int segmentOf(Person person, int count) {
+        return segmentOf(person.getMatriculationNumber(), count);
+    }
+
+    private static int segmentOf(MatriculationNumber matriculationNumber, int count) {
+        // String.hashCode is fixed by its specification, so a person stays in the same segment across runs
+        return Math.floorMod(matriculationNumber.value.hashCode(), count);
+    }
+}
@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkpointAddressBook() throws IOException {
+        logger.fine("Attempting to checkpoint data file: " + getAddressBookFilePath());
+        addressBookStorage.checkpointAddressBook();
+    }
+
 }
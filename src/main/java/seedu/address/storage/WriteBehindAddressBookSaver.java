@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, so that callers do not wait for
+ * the data to be serialized and written.
+ * Only the latest address book is written: address books passed to {@link #save(ReadOnlyAddressBook)} while an
+ * earlier one is still being written are coalesced into a single write of the last of them.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService writer;
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+
+    /**
+     * Creates a saver that writes to {@code storage} and passes any exception thrown while writing to
+     * {@code failureHandler}, on the writer thread.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written and returns immediately.
+     * {@code addressBook} must not be modified afterwards, so callers should pass a snapshot of the live address
+     * book, such as one from {@link seedu.address.model.AddressBook#snapshot()}.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // only the save that finds nothing pending schedules a write; later saves replace what it will write
+        if (pending.getAndSet(addressBook) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until every address book passed to {@link #save(ReadOnlyAddressBook)} so far has been written or has
+     * failed to be written.
+     */
+    public void flush() {
+        try {
+            // the writer runs tasks in order, so this runs after every write scheduled before it
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("The empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Writes any pending address book and checkpoints the storage, then stops the writer thread.
+     * No more address books can be saved after this.
+     */
+    public void shutdown() {
+        writer.execute(this::checkpoint);
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkpoint() {
+        try {
+            storage.checkpointAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to checkpoint address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
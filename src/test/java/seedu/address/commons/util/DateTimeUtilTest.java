@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.RandomStringGenerator;
+
+public class DateTimeUtilTest {
+
+    private static final long MIN_EPOCH_DAY = LocalDate.of(-20000, 1, 1).toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.of(20000, 12, 31).toEpochDay();
+
+    @Test
+    public void parseDate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DateTimeUtil.parseDate(null));
+    }
+
+    @Test
+    public void parseDate_validDates_parsed() {
+        assertEquals(LocalDate.of(2025, 10, 15), DateTimeUtil.parseDate("2025-10-15"));
+        assertEquals(LocalDate.of(2024, 2, 29), DateTimeUtil.parseDate("2024-02-29")); // leap day
+        assertEquals(LocalDate.of(0, 1, 1), DateTimeUtil.parseDate("0000-01-01"));
+        assertEquals(LocalDate.of(12345, 1, 1), DateTimeUtil.parseDate("+12345-01-01")); // 5-digit year
+    }
+
+    @Test
+    public void parseDate_invalidDates_throwsDateTimeParseException() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("")); // empty string
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("2025-1-15")); // 1-digit month
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("2025/10/15")); // wrong separators
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("2025-13-01")); // no such month
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("2025-02-29")); // not a leap year
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("2025-10-15T00:00"));
+    }
+
+    @Test
+    public void parseDateTime_validDateTimes_parsed() {
+        assertEquals(LocalDateTime.of(2025, 10, 15, 14, 23), DateTimeUtil.parseDateTime("2025-10-15T14:23"));
+        assertEquals(LocalDateTime.of(2025, 10, 15, 14, 23, 5), DateTimeUtil.parseDateTime("2025-10-15T14:23:05"));
+        assertEquals(LocalDateTime.of(2025, 10, 15, 14, 23, 5, 120_000_000),
+                DateTimeUtil.parseDateTime("2025-10-15T14:23:05.12"));
+        assertEquals(LocalDateTime.of(2025, 10, 15, 14, 23, 5, 1),
+                DateTimeUtil.parseDateTime("2025-10-15T14:23:05.000000001"));
+    }
+
+    @Test
+    public void parseDateTime_invalidDateTimes_throwsDateTimeParseException() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("2025-10-15"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("2025-10-15T24:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("2025-10-15T14:60"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("2025-10-15 14:23"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("2025-10-15T14:23:05.1234567890"));
+    }
+
+    @Test
+    public void formatDate_randomDates_sameAsToString() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(MIN_EPOCH_DAY + (long) (random.nextDouble()
+                    * (MAX_EPOCH_DAY - MIN_EPOCH_DAY)));
+            assertEquals(date.toString(), DateTimeUtil.formatDate(date));
+            assertEquals(date, DateTimeUtil.parseDate(DateTimeUtil.formatDate(date)));
+        }
+    }
+
+    @Test
+    public void formatDateTime_randomDateTimes_sameAsToString() {
+        Random random = new Random(0);
+        int[] nanos = {0, 0, 5_000_000, 123_000_000, 7_000, 123_456_000, 1, 123_456_789};
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDate.ofEpochDay(MIN_EPOCH_DAY + (long) (random.nextDouble()
+                    * (MAX_EPOCH_DAY - MIN_EPOCH_DAY))).atTime(random.nextInt(24), random.nextInt(60),
+                    random.nextBoolean() ? 0 : random.nextInt(60), nanos[random.nextInt(nanos.length)]);
+            assertEquals(dateTime.toString(), DateTimeUtil.formatDateTime(dateTime));
+            assertEquals(dateTime, DateTimeUtil.parseDateTime(DateTimeUtil.formatDateTime(dateTime)));
+        }
+    }
+
+    @Test
+    public void parseDateTime_randomStrings_sameAsLocalDateTimeParse() {
+        List<String> strings = new RandomStringGenerator(0).generate(10_000, "2025-10-15T14:23",
+                "2024-02-29T23:59:59", "2025-01-02T03:04:05.123456789");
+        for (String text : strings) {
+            assertEquals(parseOrNull(text), parseDateTimeOrNull(text), text);
+        }
+    }
+
+    private static LocalDateTime parseOrNull(String text) {
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseDateTimeOrNull(String text) {
+        try {
+            return DateTimeUtil.parseDateTime(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AddPaymentCommand}.
+ */
+public class AddPaymentCommandTest {
+
+    private static final Amount AMOUNT = Amount.parse("5");
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_repeatedIndex_paymentAddedForEachIndex() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        AddPaymentCommand command =
+                new AddPaymentCommand(List.of(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON), AMOUNT, DATE, null);
+
+        command.execute(model);
+
+        Person updated = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(person.getPaymentCount() + 2, updated.getPaymentCount());
+        assertEquals(person.getTotalPaidCents() + 2 * AMOUNT.getCents(), updated.getTotalPaidCents());
+    }
+
+    @Test
+    public void execute_invalidIndexAfterValidIndex_noPaymentAdded() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        AddPaymentCommand command =
+                new AddPaymentCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex), AMOUNT, DATE, null);
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertSame(person, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+
+        // the failed command left no transaction in progress
+        new AddPaymentCommand(List.of(INDEX_SECOND_PERSON), AMOUNT, DATE, null).execute(model);
+        assertEquals(1, model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased()).getPaymentCount());
+    }
+}
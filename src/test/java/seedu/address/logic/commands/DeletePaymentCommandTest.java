@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeletePaymentCommand}.
+ */
+public class DeletePaymentCommandTest {
+
+    private static final Payment FIRST_PAYMENT = new Payment(Amount.parse("1"), LocalDate.of(2024, 1, 1), null);
+    private static final Payment SECOND_PAYMENT = new Payment(Amount.parse("2"), LocalDate.of(2024, 2, 1), null);
+    private static final Payment THIRD_PAYMENT = new Payment(Amount.parse("3"), LocalDate.of(2024, 3, 1), null);
+    private static final Index INDEX_SECOND_PAYMENT = Index.fromOneBased(2);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_repeatedIndex_paymentDeletedForEachIndex() throws Exception {
+        Person person = setPaymentsOfFirstPerson();
+        DeletePaymentCommand command =
+                new DeletePaymentCommand(List.of(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON), INDEX_SECOND_PAYMENT);
+
+        command.execute(model);
+
+        // the second payment is deleted, and then the payment that took its place
+        Person updated = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(person, updated);
+        assertEquals(List.of(FIRST_PAYMENT), updated.getPayments());
+    }
+
+    @Test
+    public void execute_invalidPaymentIndexAfterValidIndex_noPaymentDeleted() {
+        Person person = setPaymentsOfFirstPerson();
+        Person personWithoutPayments = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        DeletePaymentCommand command =
+                new DeletePaymentCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), INDEX_SECOND_PAYMENT);
+
+        assertCommandFailure(command, model,
+                String.format(DeletePaymentCommand.MESSAGE_INVALID_PAYMENT_INDEX, personWithoutPayments.getName()));
+        assertSame(person, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+    }
+
+    /**
+     * Gives the first person in the model three payments, and returns the person.
+     */
+    private Person setPaymentsOfFirstPerson() {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person withPayments = person.withAddedPayment(FIRST_PAYMENT).withAddedPayment(SECOND_PAYMENT)
+                .withAddedPayment(THIRD_PAYMENT);
+        model.setPerson(person, withPayments);
+        return withPayments;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortOrder;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "name", new SortCommand(SortOrder.NAME));
+        assertParseSuccess(parser, " MATRIC ", new SortCommand(SortOrder.MATRICULATION_NUMBER));
+        assertParseSuccess(parser, "paid", new SortCommand(SortOrder.TOTAL_PAID));
+        assertParseSuccess(parser, "lastpaid", new SortCommand(SortOrder.LAST_PAYMENT_DATE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "phone", expectedMessage);
+        assertParseFailure(parser, "name paid", expectedMessage);
+    }
+}
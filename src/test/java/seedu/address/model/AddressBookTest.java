@@ -7,17 +7,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -78,6 +86,83 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenModified() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        // a failed change does not change the version
+        version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getPersonsChangedSince() {
+        long version = addressBook.getVersion();
+        assertEquals(Optional.of(Collections.emptySet()), addressBook.getPersonsChangedSince(version));
+
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Optional.of(Set.of(ALICE.getMatriculationNumber(), BENSON.getMatriculationNumber())),
+                addressBook.getPersonsChangedSince(version));
+
+        long afterAdd = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertEquals(Optional.of(Set.of(ALICE.getMatriculationNumber())), addressBook.getPersonsChangedSince(afterAdd));
+
+        // changes before a reset or after the current version are not known
+        addressBook.setPersons(List.of(CARL));
+        assertFalse(addressBook.getPersonsChangedSince(afterAdd).isPresent());
+        assertFalse(addressBook.getPersonsChangedSince(addressBook.getVersion() + 1).isPresent());
+    }
+
+    @Test
+    public void applyChanges_changes_appliedAsOneChange() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        long version = addressBook.getVersion();
+        int[] changeCounts = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCounts[0]++);
+
+        Person archivedCarl = CARL.withArchived(true);
+        Map<MatriculationNumber, Person> changes = new LinkedHashMap<>();
+        changes.put(ALICE.getMatriculationNumber(), null);
+        changes.put(BENSON.getMatriculationNumber(), BENSON);
+        changes.put(CARL.getMatriculationNumber(), archivedCarl);
+        addressBook.applyChanges(changes);
+
+        assertEquals(Arrays.asList(archivedCarl, BENSON), addressBook.getPersonList());
+        assertEquals(Arrays.asList(archivedCarl), addressBook.getArchivedPersonList());
+        assertEquals(Arrays.asList(BENSON), addressBook.getActivePersonList());
+        assertEquals(1, changeCounts[0]);
+        assertEquals(Optional.of(changes.keySet()), addressBook.getPersonsChangedSince(version));
+    }
+
+    @Test
+    public void snapshot_laterChanges_notInSnapshot() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addPerson(BENSON);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(CARL);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(Optional.of(Set.of(BENSON.getMatriculationNumber())), snapshot.getPersonsChangedSince(version));
+        assertTrue(snapshot.getVersion() < addressBook.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
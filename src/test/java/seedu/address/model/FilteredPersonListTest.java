@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> NOT_BENSON_OR_DANIEL = person -> person != BENSON && person != DANIEL;
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FilteredPersonList(null, NOT_BENSON_OR_DANIEL));
+        assertThrows(NullPointerException.class, () -> new FilteredPersonList(source, null));
+    }
+
+    @Test
+    public void constructor_matchingPersonsShown() {
+        assertEquals(Arrays.asList(ALICE, CARL), new FilteredPersonList(source, NOT_BENSON_OR_DANIEL));
+    }
+
+    @Test
+    public void setFilter_otherSource_matchingPersonsOfOtherSourceShown() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        ObservableList<Person> otherSource = FXCollections.observableArrayList(DANIEL, ELLE);
+
+        filteredPersons.setFilter(otherSource, NOT_BENSON_OR_DANIEL);
+        assertEquals(Arrays.asList(ELLE), filteredPersons);
+
+        // changes to the previous source are no longer shown
+        source.add(DANIEL);
+        otherSource.add(ALICE);
+        assertEquals(Arrays.asList(ELLE, ALICE), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_changesAppliedAndPublished() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        List<Person> publishedPersons = new ArrayList<>(filteredPersons);
+        filteredPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                publishedPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                publishedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        source.set(0, DANIEL); // a matching person replaced by one that does not match
+        source.add(1, ELLE); // a matching person added between persons that do not match
+        source.set(2, ALICE); // a person that does not match replaced by one that does
+        source.remove(3); // the last person removed
+
+        assertEquals(Arrays.asList(ELLE, ALICE), filteredPersons);
+        assertEquals(filteredPersons, publishedPersons);
+    }
+
+    @Test
+    public void setFilter_sameFilter_nothingTested() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        long testedCount = filteredPersons.getTestedCount();
+
+        filteredPersons.setFilter(source, NOT_BENSON_OR_DANIEL);
+        assertEquals(testedCount, filteredPersons.getTestedCount());
+        assertEquals(Arrays.asList(ALICE, CARL), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_personReplaced_onlyReplacedPersonTested() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        long testedCount = filteredPersons.getTestedCount();
+
+        source.set(1, ELLE);
+        assertEquals(testedCount + 1, filteredPersons.getTestedCount());
+        assertEquals(Arrays.asList(ALICE, ELLE, CARL), filteredPersons);
+    }
+
+    @Test
+    public void refineFilter_onlyShownPersonsTested() {
+        source.addAll(Arrays.asList(DANIEL, ELLE));
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        List<Person> publishedPersons = new ArrayList<>(filteredPersons);
+        filteredPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                publishedPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                publishedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        long testedCount = filteredPersons.getTestedCount();
+
+        filteredPersons.refineFilter(NOT_BENSON_OR_DANIEL.and(person -> person != ALICE && person != CARL));
+        assertEquals(testedCount + 3, filteredPersons.getTestedCount());
+        assertEquals(Arrays.asList(ELLE), filteredPersons);
+        assertEquals(filteredPersons, publishedPersons);
+
+        // later changes to the source list are tested with the refined predicate
+        source.add(ALICE);
+        assertEquals(Arrays.asList(ELLE), filteredPersons);
+    }
+
+    @Test
+    public void set_throwsUnsupportedOperationException() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source, NOT_BENSON_OR_DANIEL);
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.set(0, BENSON));
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.remove(0));
+    }
+}
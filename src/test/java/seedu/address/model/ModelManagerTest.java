@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -15,7 +16,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.KeywordMatcher;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -88,6 +93,119 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void commitTransaction_stagedChanges_appliedTogether() {
+        modelManager.addPerson(ALICE);
+        long version = modelManager.getAddressBookVersion();
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, ALICE.withArchived(true));
+        modelManager.addPerson(BENSON);
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.commitTransaction();
+        assertEquals(Arrays.asList(ALICE.withArchived(true), BENSON), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getAddressBookVersion() > version);
+    }
+
+    @Test
+    public void getPerson_personChangedInTransaction_returnsStagedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        Person archivedAlice = ALICE.withArchived(true);
+        modelManager.setPerson(ALICE, archivedAlice);
+        modelManager.addPerson(BENSON);
+
+        assertSame(archivedAlice, modelManager.getPerson(ALICE.getMatriculationNumber()).get());
+        assertSame(BENSON, modelManager.getPerson(BENSON.getMatriculationNumber()).get());
+        modelManager.deletePerson(BENSON);
+        assertFalse(modelManager.getPerson(BENSON.getMatriculationNumber()).isPresent());
+    }
+
+    @Test
+    public void rollbackTransaction_stagedChanges_discarded() {
+        modelManager.addPerson(ALICE);
+        long version = modelManager.getAddressBookVersion();
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, ALICE.withArchived(true));
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void setPerson_targetAlreadyReplacedInTransaction_throwsPersonNotFoundException() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, ALICE.withArchived(!ALICE.isArchived()));
+        assertThrows(PersonNotFoundException.class, () -> modelManager.setPerson(ALICE, ALICE));
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+    }
+
+    @Test
+    public void updateFilteredActivePersonList_archivedPersons_notShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, ALICE.withArchived(true));
+
+        modelManager.updateFilteredActivePersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredArchivedPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE.withArchived(true)), modelManager.getFilteredPersonList());
+
+        // unarchiving moves the person out of the archived persons shown
+        modelManager.setPerson(ALICE.withArchived(true), ALICE);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredActivePersonListByKeywords_matchingPersonsShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredActivePersonListByKeywords(new KeywordMatcher(Arrays.asList("alice", "benson")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // narrower keywords
+        modelManager.updateFilteredActivePersonListByKeywords(new KeywordMatcher(Arrays.asList("alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // keywords that are not narrower
+        modelManager.updateFilteredActivePersonListByKeywords(new KeywordMatcher(Arrays.asList("benson")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_orderKeptWhenFilterUpdated() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+
+        modelManager.sortFilteredPersonList(SortOrder.NAME);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.updateFilteredActivePersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
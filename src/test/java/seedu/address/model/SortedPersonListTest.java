@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedPersonListTest {
+
+    private static final Person ALICE_PAID_MORE_EARLIER =
+            ALICE.withAddedPayment(new Payment(Amount.ofCents(50000), LocalDate.of(2025, 1, 1)));
+    private static final Person BENSON_PAID_LESS_LATER =
+            BENSON.withAddedPayment(new Payment(Amount.ofCents(10000), LocalDate.of(2025, 6, 1)));
+
+    private final ObservableList<Person> source =
+            FXCollections.observableArrayList(CARL, ALICE_PAID_MORE_EARLIER, BENSON_PAID_LESS_LATER);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedPersonList(null));
+    }
+
+    @Test
+    public void constructor_sourceOrderShown() {
+        SortedPersonList sortedPersons = new SortedPersonList(source);
+        assertEquals(source, sortedPersons);
+
+        // changes are shown in the source order until an order is set
+        source.add(1, DANIEL);
+        assertEquals(source, sortedPersons);
+    }
+
+    @Test
+    public void setOrder_sortedInOrder() {
+        SortedPersonList sortedPersons = new SortedPersonList(source);
+
+        sortedPersons.setOrder(SortOrder.NAME);
+        assertEquals(Arrays.asList(ALICE_PAID_MORE_EARLIER, BENSON_PAID_LESS_LATER, CARL), sortedPersons);
+
+        sortedPersons.setOrder(SortOrder.TOTAL_PAID);
+        assertEquals(Arrays.asList(CARL, BENSON_PAID_LESS_LATER, ALICE_PAID_MORE_EARLIER), sortedPersons);
+
+        // persons without payments come first
+        sortedPersons.setOrder(SortOrder.LAST_PAYMENT_DATE);
+        assertEquals(Arrays.asList(CARL, ALICE_PAID_MORE_EARLIER, BENSON_PAID_LESS_LATER), sortedPersons);
+    }
+
+    @Test
+    public void sourceChanged_changedPersonsMovedAndPublished() {
+        SortedPersonList sortedPersons = new SortedPersonList(source);
+        sortedPersons.setOrder(SortOrder.NAME);
+        List<Person> publishedPersons = new ArrayList<>(sortedPersons);
+        sortedPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                publishedPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                publishedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+
+        source.set(1, renamedAlice); // a person moved to the end
+        source.add(DANIEL); // a person added between two persons
+        source.remove(BENSON_PAID_LESS_LATER);
+        source.set(0, CARL); // a person replaced by itself stays in place
+
+        assertEquals(Arrays.asList(CARL, DANIEL, renamedAlice), sortedPersons);
+        assertEquals(sortedPersons, publishedPersons);
+    }
+
+    @Test
+    public void set_throwsUnsupportedOperationException() {
+        SortedPersonList sortedPersons = new SortedPersonList(source);
+        assertThrows(UnsupportedOperationException.class, () -> sortedPersons.set(0, BENSON));
+        assertThrows(UnsupportedOperationException.class, () -> sortedPersons.remove(0));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class AmountTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Amount.parse(null));
+    }
+
+    @Test
+    public void parse_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("")); // empty string
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse(".")); // no digits
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("abc")); // not a number
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("0")); // zero
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("-1.50")); // negative
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("1.500")); // more than 2 decimal places
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("1e-3")); // more than 2 decimal places
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("1e100")); // too large
+    }
+
+    @Test
+    public void parse_validAmount_returnsAmount() {
+        assertEquals(1234, Amount.parse("12.34").getCents());
+        assertEquals(1230, Amount.parse(" 12.3 ").getCents());
+        assertEquals(1200, Amount.parse("+12").getCents());
+        assertEquals(1200, Amount.parse("12.").getCents());
+        assertEquals(50, Amount.parse(".5").getCents());
+        assertEquals(1, Amount.parse("0.01").getCents());
+        assertEquals(1, Amount.parse("1E-2").getCents()); // exponents as accepted by BigDecimal
+        assertEquals(999_999_999_999_999_999L, Amount.parse("9999999999999999.99").getCents());
+    }
+
+    @Test
+    public void toString_formatsWithTwoDecimalPlaces() {
+        assertEquals("12.34", Amount.parse("12.34").toString());
+        assertEquals("0.05", Amount.parse("0.05").toString());
+        assertEquals("7.00", Amount.parse("7").toString());
+        assertEquals("-1.05", Amount.formatCents(-105));
+    }
+
+    @Test
+    public void asBigDecimal_returnsValueAtScaleTwo() {
+        assertEquals(new BigDecimal("12.30"), Amount.parse("12.3").asBigDecimal());
+        assertEquals(Amount.parse("12.3"), new Amount(new BigDecimal("12.30")));
+    }
+
+    @Test
+    public void addAndSubtract() {
+        assertEquals(Amount.parse("3.75"), Amount.parse("1.25").add(Amount.parse("2.50")));
+        assertEquals(Amount.parse("1.25"), Amount.parse("3.75").subtract(Amount.parse("2.50")));
+        assertThrows(IllegalArgumentException.class, () -> Amount.parse("1").subtract(Amount.parse("1")));
+        assertThrows(ArithmeticException.class, () -> Amount.ofCents(Long.MAX_VALUE).add(Amount.ofCents(1)));
+    }
+
+    @Test
+    public void equals() {
+        Amount amount = Amount.parse("5.50");
+
+        assertTrue(amount.equals(amount));
+        assertTrue(amount.equals(Amount.parse("5.5")));
+        assertFalse(amount.equals(null));
+        assertFalse(amount.equals(5.5));
+        assertFalse(amount.equals(Amount.parse("5.51")));
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PaymentLedgerTest {
+
+    private static final Payment FIRST = new Payment(Amount.parse("12.34"), LocalDate.of(2025, 3, 12), "taxi home",
+            LocalDateTime.of(2025, 3, 12, 10, 15, 30, 123_456_789));
+    private static final Payment SECOND = new Payment(Amount.parse("5"), LocalDate.of(1969, 12, 31), null,
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1));
+    private static final Payment THIRD = new Payment(Amount.parse("0.01"), LocalDate.of(2025, 1, 1), "dues",
+            LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PaymentLedger.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_payments_sameFieldsInOrder() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND, THIRD));
+        assertEquals(Arrays.asList(FIRST, SECOND, THIRD), ledger);
+        assertEquals("taxi home", ledger.get(0).getRemarks());
+        assertNull(ledger.get(1).getRemarks());
+        assertEquals(SECOND.getRecordedAt(), ledger.get(1).getRecordedAt());
+        assertSame(ledger, PaymentLedger.copyOf(ledger));
+        assertTrue(PaymentLedger.copyOf(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void columnAccessors() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND, THIRD));
+        assertEquals(1234, ledger.getCents(0));
+        assertEquals(-1, ledger.getEpochDay(1));
+        assertEquals(1735, ledger.sumCents());
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.getCents(3));
+    }
+
+    @Test
+    public void withMethods_doNotModifyOriginal() {
+        PaymentLedger original = PaymentLedger.empty().withAppended(FIRST).withAppended(SECOND);
+
+        // appending to the same ledger twice must not overwrite the first append
+        PaymentLedger appendedThird = original.withAppended(THIRD);
+        PaymentLedger appendedFirst = original.withAppended(FIRST);
+        assertEquals(Arrays.asList(FIRST, SECOND, THIRD), appendedThird);
+        assertEquals(Arrays.asList(FIRST, SECOND, FIRST), appendedFirst);
+
+        assertEquals(Arrays.asList(FIRST, THIRD), original.withReplaced(1, THIRD));
+        assertEquals(Arrays.asList(SECOND), original.withRemoved(0));
+        assertEquals(Arrays.asList(FIRST, SECOND), original);
+    }
+
+    @Test
+    public void withMethods_invalidIndex_throwsIndexOutOfBoundsException() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.withReplaced(-1, THIRD));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.withRemoved(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> PaymentLedger.empty().withRemoved(0));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND));
+        assertThrows(UnsupportedOperationException.class, () -> ledger.add(THIRD));
+        assertThrows(UnsupportedOperationException.class, () -> ledger.set(0, THIRD));
+        assertThrows(UnsupportedOperationException.class, () -> ledger.remove(0));
+    }
+
+    @Test
+    public void withMethods_randomOperations_sameAsArrayList() {
+        List<Payment> payments = Arrays.asList(FIRST, SECOND, THIRD);
+        Random random = new Random(0);
+        List<Payment> expected = new ArrayList<>();
+        PaymentLedger actual = PaymentLedger.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            Payment payment = payments.get(random.nextInt(payments.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                expected.add(payment);
+                actual = actual.withAppended(payment);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, payment);
+                actual = actual.withReplaced(index, payment);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void withMethods_manyPayments_sameAsArrayList() {
+        List<Payment> payments = Arrays.asList(FIRST, SECOND, THIRD);
+        Random random = new Random(0);
+        List<Payment> expected = new ArrayList<>();
+        PaymentLedger actual = PaymentLedger.empty();
+        PaymentLedger branched = actual;
+
+        // appends outnumber removals, so the ledger spans many chunks
+        for (int i = 0; i < 5000; i++) {
+            Payment payment = new Payment(Amount.ofCents(i + 1), LocalDate.ofEpochDay(i), "remarks " + (i % 7),
+                    payments.get(random.nextInt(payments.size())).getRecordedAt());
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                expected.add(payment);
+                actual = actual.withAppended(payment);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, payment);
+                actual = actual.withReplaced(index, payment);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+            if (i == 2500) {
+                branched = actual;
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size() - 1, actual.indexOf(expected.get(expected.size() - 1)));
+        assertEquals(expected.stream().mapToLong(payment -> payment.getAmount().getCents()).sum(), actual.sumCents());
+
+        // appending to a ledger whose chunks were shared must not change the other ledgers
+        List<Payment> expectedBranched = new ArrayList<>(branched);
+        assertEquals(expectedBranched.size() + 1, branched.withAppended(FIRST).size());
+        assertEquals(expectedBranched, branched);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void withMethods_acrossFirstChunk_sameAsArrayList() {
+        List<Payment> expected = new ArrayList<>();
+        PaymentLedger full = PaymentLedger.empty();
+        for (int i = 0; i < 64; i++) {
+            Payment payment = new Payment(Amount.ofCents(i + 1), LocalDate.ofEpochDay(i), null, FIRST.getRecordedAt());
+            expected.add(payment);
+            full = full.withAppended(payment);
+        }
+
+        // a second chunk is added after the first is full, and removed again with its only payment
+        PaymentLedger appended = full.withAppended(SECOND);
+        assertEquals(expected, appended.withRemoved(64));
+        assertEquals(expected.subList(1, 64), appended.withRemoved(0).withRemoved(63));
+        assertEquals(64, full.matchingLength(0, appended, 0));
+        assertEquals(expected, full);
+    }
+
+    @Test
+    public void getRemarks_equalRemarks_sameString() {
+        PaymentLedger ledger = PaymentLedger.empty().withAppended(FIRST)
+                .withAppended(new Payment(THIRD.getAmount(), THIRD.getDate(), new String("taxi home"),
+                        THIRD.getRecordedAt()));
+        assertSame(ledger.getRemarks(0), ledger.getRemarks(1));
+        assertNull(ledger.withAppended(SECOND).getRemarks(2));
+    }
+
+    @Test
+    public void matchingLength() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND, THIRD));
+        assertEquals(3, ledger.matchingLength(0, ledger, 0));
+        assertEquals(1, ledger.matchingLength(0, ledger.withReplaced(1, FIRST), 0));
+        assertEquals(3, ledger.matchingLength(0, ledger.withAppended(FIRST), 0));
+
+        // the payments after a removed payment match when shifted by one
+        PaymentLedger removed = ledger.withRemoved(0);
+        assertEquals(0, ledger.matchingLength(0, removed, 0));
+        assertEquals(2, ledger.matchingLength(1, removed, 0));
+
+        // ledgers that do not share their columns are compared payment by payment
+        assertEquals(3, ledger.matchingLength(0, PaymentLedger.copyOf(new ArrayList<>(ledger)), 0));
+        assertEquals(0, ledger.matchingLength(3, ledger, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.matchingLength(4, ledger, 0));
+    }
+
+    @Test
+    public void indexOf() {
+        PaymentLedger ledger = PaymentLedger.copyOf(Arrays.asList(FIRST, SECOND, FIRST));
+        assertEquals(0, ledger.indexOf(FIRST));
+        assertEquals(1, ledger.indexOf(SECOND));
+        assertEquals(-1, ledger.indexOf(THIRD));
+        assertEquals(-1, ledger.indexOf("not a payment"));
+        assertEquals(-1, ledger.indexOf(new Payment(FIRST.getAmount(), FIRST.getDate(), "other remarks",
+                FIRST.getRecordedAt())));
+    }
+}
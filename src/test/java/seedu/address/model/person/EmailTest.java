@@ -1,11 +1,16 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.RandomStringGenerator;
+
 public class EmailTest {
 
     @Test
@@ -85,4 +90,13 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        List<String> strings = new RandomStringGenerator(0).generate(10_000, "PeterJack_1190@example.com",
+                "a1+be.d@example1.com", "e1@e.c1");
+        for (String test : strings) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
 }
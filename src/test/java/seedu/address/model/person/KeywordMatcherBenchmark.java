@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.BenchmarkUtil.timePredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the time taken to test every person against the {@code find} keywords with {@link KeywordMatcher}
+ * and with the {@link NameContainsKeywordsPredicate} and {@link TagContainsKeywordsPredicate} pair that
+ * {@code find} used to create for every person.
+ *
+ * This is not run as part of the test suite. Run its {@code main} method directly, optionally passing the number
+ * of persons to test against.
+ */
+public class KeywordMatcherBenchmark {
+
+    private static final String[] NAME_WORDS = {"Alice", "Bob", "Carol", "David", "Elle", "Fiona", "George",
+        "Tan", "Lim", "Ng", "Wong", "Meier", "Kurz", "Kunz", "Pauline"};
+    private static final String[] TAG_NAMES = {"friends", "owesMoney", "colleagues", "exco", "treasurer", "member"};
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Person> persons = generatePersons(size, new Random(0));
+        List<String> keywords = Arrays.asList("alice", "KURZ", "money");
+
+        Predicate<Person> predicates = person -> new NameContainsKeywordsPredicate(keywords).test(person)
+                || new TagContainsKeywordsPredicate(keywords).test(person);
+        Predicate<Person> matcher = new KeywordMatcher(keywords);
+
+        System.out.printf("Testing %d persons against %s%n", size, keywords);
+        System.out.printf("  keyword predicates: %8.3f ms/round%n", timePredicate(predicates, persons));
+        System.out.printf("  KeywordMatcher:     %8.3f ms/round%n", timePredicate(matcher, persons));
+    }
+
+    private static List<Person> generatePersons(int size, Random random) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Name name = new Name(NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)]);
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(3); j > 0; j--) {
+                tags.add(new Tag(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+            }
+            persons.add(new Person(name, new Phone("91234567"), new Email("member@example.com"),
+                    new MatriculationNumber(String.format("A%08dX", i)), tags));
+        }
+        return persons;
+    }
+}
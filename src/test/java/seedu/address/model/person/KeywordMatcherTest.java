@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Collections.singletonList("  ")));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Collections.singletonList("aaa bbb")));
+    }
+
+    @Test
+    public void getKeywords_returnsTrimmedLowerCasedKeywords() {
+        assertEquals(Arrays.asList("alice", "bob"), new KeywordMatcher(Arrays.asList(" ALICE ", "Bob")).getKeywords());
+    }
+
+    @Test
+    public void matchesName() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("abc", "DEF"));
+
+        assertTrue(matcher.matchesName("ABc def"));
+        assertTrue(matcher.matchesName("xyz   dEf"));
+        assertTrue(matcher.matchesName("  abc"));
+
+        // not a full word match
+        assertFalse(matcher.matchesName("AB"));
+        assertFalse(matcher.matchesName("abcd"));
+        assertFalse(matcher.matchesName(""));
+    }
+
+    @Test
+    public void matchesTagName() {
+        KeywordMatcher matcher = new KeywordMatcher(Collections.singletonList("MONEY"));
+
+        assertTrue(matcher.matchesTagName("owesMoney"));
+        assertTrue(matcher.matchesTagName("money"));
+        assertFalse(matcher.matchesTagName("mone"));
+        assertFalse(matcher.matchesTagName("friends"));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        KeywordMatcher aliceBob = new KeywordMatcher(Arrays.asList("alice", "bob"));
+
+        assertTrue(new KeywordMatcher(Collections.singletonList("ALICE")).isNarrowerThan(aliceBob));
+        assertTrue(new KeywordMatcher(Arrays.asList("bob", "alice")).isNarrowerThan(aliceBob));
+
+        // more keywords match more persons
+        assertFalse(aliceBob.isNarrowerThan(new KeywordMatcher(Collections.singletonList("alice"))));
+        assertFalse(new KeywordMatcher(Collections.singletonList("carl")).isNarrowerThan(aliceBob));
+    }
+
+    @Test
+    public void test_sameResultAsKeywordPredicates() {
+        List<Person> persons = Arrays.asList(
+                new PersonBuilder().withName("Alice Bob").build(),
+                new PersonBuilder().withName("Carol").withTags("owesMoney").build(),
+                new PersonBuilder().withName("Alicia").withTags("friends", "colleagues").build());
+        List<List<String>> keywordLists = Arrays.asList(
+                Arrays.asList("alice"), Arrays.asList("BOB", "carol"), Arrays.asList("money"),
+                Arrays.asList("ali"), Arrays.asList("LEAG", "xyz"), Arrays.asList("friend"));
+
+        for (List<String> keywords : keywordLists) {
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(keywords);
+            TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate(keywords);
+            for (Person person : persons) {
+                assertEquals(namePredicate.test(person) || tagPredicate.test(person), matcher.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("first", "second"));
+
+        assertTrue(matcher.equals(matcher));
+        assertTrue(matcher.equals(new KeywordMatcher(Arrays.asList("FIRST", "second"))));
+        assertFalse(matcher.equals(1));
+        assertFalse(matcher.equals(null));
+        assertFalse(matcher.equals(new KeywordMatcher(Arrays.asList("first"))));
+    }
+}
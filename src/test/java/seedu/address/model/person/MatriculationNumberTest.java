@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.InvalidMatriculationNumberException;
+import seedu.address.testutil.RandomStringGenerator;
+
+public class MatriculationNumberTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MatriculationNumber(null));
+    }
+
+    @Test
+    public void constructor_invalidMatriculationNumber_throwsInvalidMatriculationNumberException() {
+        assertThrows(InvalidMatriculationNumberException.class, () -> new MatriculationNumber("A1234567X"));
+    }
+
+    @Test
+    public void constructor_lowerCase_convertedToUpperCase() {
+        assertEquals("A01234567X", new MatriculationNumber("a01234567x").value);
+    }
+
+    @Test
+    public void isValidMatriculationNumber() {
+        // invalid matriculation numbers
+        assertFalse(MatriculationNumber.isValidMatriculationNumber(null)); // null
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("")); // empty string
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A1234567X")); // too few digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A012345678X")); // too many digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("B01234567X")); // does not start with 'A'
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A012345678")); // does not end with a letter
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A0123 567X")); // space within digits
+        assertFalse(MatriculationNumber.isValidMatriculationNumber("A0123456١X")); // non-ASCII digit
+
+        // valid matriculation numbers
+        assertTrue(MatriculationNumber.isValidMatriculationNumber("A01234567X"));
+        assertTrue(MatriculationNumber.isValidMatriculationNumber("a01234567x")); // lower case
+        assertTrue(MatriculationNumber.isValidMatriculationNumber("A01234567ſ")); // long s, upper case is 'S'
+    }
+
+    @Test
+    public void isValidMatriculationNumber_randomStrings_sameAsValidationRegex() {
+        for (String test : new RandomStringGenerator(0).generate(10_000, "A01234567X", "a98765432i")) {
+            assertEquals(test.toUpperCase().matches(MatriculationNumber.VALIDATION_REGEX),
+                    MatriculationNumber.isValidMatriculationNumber(test), test);
+        }
+    }
+
+    @Test
+    public void isValidMatriculationNumber_turkishLocale_sameAsValidationRegex() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // in Turkish, the upper case of 'i' is a dotted capital I
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertFalse(MatriculationNumber.isValidMatriculationNumber("A01234567i"));
+            assertTrue(MatriculationNumber.isValidMatriculationNumber("A01234567ı")); // dotless i
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void equals() {
+        MatriculationNumber matriculationNumber = new MatriculationNumber("A01234567X");
+
+        // same values -> returns true
+        assertTrue(matriculationNumber.equals(new MatriculationNumber("a01234567x")));
+
+        // same object -> returns true
+        assertTrue(matriculationNumber.equals(matriculationNumber));
+
+        // null -> returns false
+        assertFalse(matriculationNumber.equals(null));
+
+        // different types -> returns false
+        assertFalse(matriculationNumber.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(matriculationNumber.equals(new MatriculationNumber("A01234567Y")));
+    }
+}
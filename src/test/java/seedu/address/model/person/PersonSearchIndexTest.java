@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.find(null));
+    }
+
+    @Test
+    public void find_nameWordIgnoringCase_returnsTrue() {
+        searchIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        Predicate<Person> predicate = searchIndex.find(new KeywordMatcher(Collections.singletonList("mEIer")));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void find_partialNameWord_returnsFalse() {
+        searchIndex.setPersons(Arrays.asList(ALICE, BENSON));
+        Predicate<Person> predicate = searchIndex.find(new KeywordMatcher(Collections.singletonList("Meie")));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void find_partialTagName_returnsTrue() {
+        searchIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Predicate<Person> predicate = searchIndex.find(new KeywordMatcher(Collections.singletonList("MONEY")));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void find_personChangedAfterQuery_reflectsChange() {
+        searchIndex.setPersons(Arrays.asList(ALICE, CARL));
+        Predicate<Person> predicate = searchIndex.find(new KeywordMatcher(Collections.singletonList("alice")));
+        Person editedCarl = new PersonBuilder(CARL).withName("Alice Kurz").build();
+
+        // edited person not yet in the index is matched directly
+        assertTrue(predicate.test(editedCarl));
+
+        searchIndex.setPerson(CARL, editedCarl);
+        assertTrue(predicate.test(editedCarl));
+
+        searchIndex.remove(ALICE);
+        searchIndex.add(BENSON);
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void find_personChangedAfterLaterQuery_reflectsChange() {
+        searchIndex.setPersons(Arrays.asList(ALICE, CARL));
+        Predicate<Person> predicate = searchIndex.find(new KeywordMatcher(Collections.singletonList("alice")));
+        searchIndex.find(new KeywordMatcher(Collections.singletonList("carl")));
+        Person editedCarl = new PersonBuilder(CARL).withName("Alice Kurz").build();
+
+        searchIndex.setPerson(CARL, editedCarl);
+        assertTrue(predicate.test(editedCarl));
+        assertTrue(predicate.test(ALICE));
+    }
+}
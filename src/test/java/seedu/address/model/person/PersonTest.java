@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.payment.PaymentLoader;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +34,97 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getTotalPaidCents_paymentsAddedEditedAndRemoved_tracksSumOfPayments() {
+        Payment first = new Payment(Amount.parse("10.50"), LocalDate.of(2025, 1, 1));
+        Payment second = new Payment(Amount.parse("2.25"), LocalDate.of(2025, 1, 2));
+        Payment edited = new Payment(Amount.parse("5"), LocalDate.of(2025, 1, 2));
+
+        Person person = ALICE.withAddedPayment(first).withAddedPayment(second);
+        assertEquals(1275, person.getTotalPaidCents());
+
+        person = person.withEditedPayment(1, edited);
+        assertEquals(1550, person.getTotalPaidCents());
+
+        person = person.withRemovedPayment(first).withArchived(true);
+        assertEquals(500, person.getTotalPaidCents());
+
+        person = person.withRemovedPayment(edited);
+        assertEquals(0, person.getTotalPaidCents());
+    }
+
+    @Test
+    public void getLastPaymentEpochDay_paymentsAddedEditedAndRemoved_tracksLatestPaymentDate() {
+        Payment later = new Payment(Amount.parse("1"), LocalDate.of(2025, 3, 1));
+        Payment earlier = new Payment(Amount.parse("1"), LocalDate.of(2025, 1, 1));
+        Payment latest = new Payment(Amount.parse("1"), LocalDate.of(2025, 5, 1));
+        assertEquals(Person.NO_PAYMENT_EPOCH_DAY, ALICE.getLastPaymentEpochDay());
+
+        Person person = ALICE.withAddedPayment(later).withAddedPayment(earlier);
+        assertEquals(later.getDate().toEpochDay(), person.getLastPaymentEpochDay());
+
+        // editing the latest payment to an earlier date makes another payment the latest
+        assertEquals(later.getDate().toEpochDay(), person.withEditedPayment(1, latest).withEditedPayment(1, earlier)
+                .getLastPaymentEpochDay());
+        assertEquals(earlier.getDate().toEpochDay(), person.withEditedPayment(0, earlier).getLastPaymentEpochDay());
+
+        assertEquals(earlier.getDate().toEpochDay(), person.withRemovedPayment(0).getLastPaymentEpochDay());
+        assertEquals(later.getDate().toEpochDay(), person.withRemovedPayment(1).getLastPaymentEpochDay());
+        assertEquals(Person.NO_PAYMENT_EPOCH_DAY,
+                person.withRemovedPayment(0).withRemovedPayment(0).getLastPaymentEpochDay());
+    }
+
+    @Test
+    public void withPaymentMethods_originalPersonUnchanged() {
+        Payment first = new Payment(Amount.parse("1"), LocalDate.of(2025, 1, 1));
+        Payment second = new Payment(Amount.parse("2"), LocalDate.of(2025, 1, 2));
+        Payment edited = new Payment(Amount.parse("3"), LocalDate.of(2025, 1, 3));
+        Person original = ALICE.withAddedPayment(first).withAddedPayment(second);
+
+        assertEquals(List.of(first, second, edited), original.withAddedPayment(edited).getPayments());
+        assertEquals(List.of(first, edited), original.withEditedPayment(1, edited).getPayments());
+        assertEquals(List.of(second), original.withRemovedPayment(0).getPayments());
+        assertEquals(List.of(first, second), original.getPayments());
+    }
+
+    @Test
+    public void getPayments_paymentsLoadedByLoader_loadedOnceOnFirstRead() {
+        Payment first = new Payment(Amount.parse("1"), LocalDate.of(2025, 1, 1));
+        Payment second = new Payment(Amount.parse("2"), LocalDate.of(2025, 1, 2));
+        AtomicInteger loadCount = new AtomicInteger();
+        PaymentLoader loader = () -> {
+            loadCount.incrementAndGet();
+            return PaymentLedger.copyOf(List.of(first, second));
+        };
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getMatriculationNumber(), ALICE.getTags(), false, 2, 300, second.getDate().toEpochDay(), loader);
+
+        // the summaries and copies that keep the payments do not load them
+        Person archived = person.withArchived(true);
+        assertEquals(2, archived.getPaymentCount());
+        assertEquals(300, archived.getTotalPaidCents());
+        assertEquals(second.getDate().toEpochDay(), archived.getLastPaymentEpochDay());
+        assertEquals(loader, archived.getPaymentLoader());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(List.of(first, second), person.getPayments());
+        assertEquals(List.of(first, second), person.getPayments());
+        assertEquals(1, loadCount.get());
+
+        // changed payments are no longer those of the loader
+        assertNull(person.withRemovedPayment(0).getPaymentLoader());
+    }
+
+    @Test
+    public void getPayments_loaderFails_throwsPaymentLoadingException() {
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getMatriculationNumber(), ALICE.getTags(), false, 1, 100, 0, () -> {
+                    throw new PaymentLoadingException("unreadable", null);
+                });
+        assertThrows(PaymentLoadingException.class, person::getPayments);
+        assertEquals(1, person.getPaymentCount());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -8,13 +8,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +109,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +144,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_allowsPersonToBeAddedAgain() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +188,98 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getTotalPaidCents_personsChanged_tracksSumOfPayments() {
+        Payment payment = new Payment(Amount.parse("3.20"), LocalDate.of(2025, 1, 1));
+        assertEquals(0, uniquePersonList.getTotalPaidCents());
+
+        uniquePersonList.add(ALICE.withAddedPayment(payment));
+        uniquePersonList.add(BOB.withAddedPayment(payment).withAddedPayment(payment));
+        assertEquals(960, uniquePersonList.getTotalPaidCents());
+
+        uniquePersonList.setPerson(BOB, BOB);
+        assertEquals(320, uniquePersonList.getTotalPaidCents());
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.getTotalPaidCents());
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE.withAddedPayment(payment)));
+        assertEquals(320, uniquePersonList.getTotalPaidCents());
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonsRemoved_replacesPersonInPlace() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        uniquePersonList.setPersons(persons);
+
+        uniquePersonList.remove(persons.remove(2));
+        uniquePersonList.remove(persons.remove(0));
+        Person last = persons.get(persons.size() - 1);
+        Person editedLast = last.withArchived(!last.isArchived());
+        uniquePersonList.setPerson(last, editedLast);
+        persons.set(persons.size() - 1, editedLast);
+        uniquePersonList.remove(persons.remove(1));
+
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_existingPerson_notifiesSingleRemoval() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + (change.wasReplaced() ? " replaced" : change.wasRemoved()
+                        ? " removed" : " added"));
+            }
+        });
+
+        uniquePersonList.remove(persons.get(3));
+        uniquePersonList.setPerson(persons.get(4), persons.get(4).withArchived(!persons.get(4).isArchived()));
+
+        assertEquals(Arrays.asList("3 removed", "3 replaced"), changes);
+    }
+
+    @Test
+    public void getActivePersons_personsArchivedAndRemoved_partitionsKeptInListOrder() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+
+        uniquePersonList.setPerson(persons.get(1), persons.get(1).withArchived(true));
+        uniquePersonList.setPerson(persons.get(4), persons.get(4).withArchived(true));
+        uniquePersonList.setPerson(persons.get(3), persons.get(3).withArchived(true));
+        uniquePersonList.setPerson(persons.get(4).withArchived(true), persons.get(4));
+        uniquePersonList.remove(persons.get(0));
+
+        List<Person> expectedActivePersons = new ArrayList<>();
+        List<Person> expectedArchivedPersons = new ArrayList<>();
+        for (Person person : uniquePersonList) {
+            (person.isArchived() ? expectedArchivedPersons : expectedActivePersons).add(person);
+        }
+        assertEquals(Arrays.asList(persons.get(1).withArchived(true), persons.get(3).withArchived(true)),
+                expectedArchivedPersons);
+        assertEquals(expectedActivePersons, uniquePersonList.getActivePersons());
+        assertEquals(expectedArchivedPersons, uniquePersonList.getArchivedPersons());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.BenchmarkUtil.timePredicate;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.RandomStringGenerator;
+
+/**
+ * Compares the time taken to validate strings with the {@code isValid} methods of the value objects and with
+ * {@link String#matches(String)} on their validation regexes, which compiles the regex on every call.
+ *
+ * This is not run as part of the test suite. Run its {@code main} method directly, optionally passing the number
+ * of strings to validate.
+ */
+public class ValidatorBenchmark {
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        RandomStringGenerator generator = new RandomStringGenerator(0);
+
+        compare("Name", generator.generate(size, "Alice Pauline", "Benson Meier"),
+                Name::isValidName, test -> test.matches(Name.VALIDATION_REGEX));
+        compare("Phone", generator.generate(size, "94351253", "98765432"),
+                Phone::isValidPhone, test -> test.matches(Phone.VALIDATION_REGEX));
+        compare("Email", generator.generate(size, "alice@example.com", "johnd@example.com"),
+                Email::isValidEmail, test -> test.matches(Email.VALIDATION_REGEX));
+        compare("MatriculationNumber", generator.generate(size, "A01234567X", "a12345678b"),
+                MatriculationNumber::isValidMatriculationNumber,
+                test -> test.toUpperCase().matches(MatriculationNumber.VALIDATION_REGEX));
+        compare("Tag", generator.generate(size, "friends", "owesMoney"),
+                Tag::isValidTagName, test -> test.matches(Tag.VALIDATION_REGEX));
+    }
+
+    private static void compare(String name, List<String> strings, Predicate<String> validator,
+            Predicate<String> regex) {
+        System.out.printf("Validating %d strings as %s%n", strings.size(), name);
+        System.out.printf("  String.matches: %8.3f ms/round%n", timePredicate(regex, strings));
+        System.out.printf("  isValid:        %8.3f ms/round%n", timePredicate(validator, strings));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.RandomStringGenerator;
+
 public class TagTest {
 
     @Test
@@ -23,4 +26,10 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_randomStrings_sameAsValidationRegex() {
+        for (String test : new RandomStringGenerator(0).generate(10_000, "friends", "owesMoney", "CS2103")) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
 }
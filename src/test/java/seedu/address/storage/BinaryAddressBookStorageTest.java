@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithPayments;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.txt.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("addressbook.txt")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("futureVersion.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookFormat.MAGIC);
+            out.writeInt(BinaryAddressBookFormat.VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithPayments());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithPayments();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getPersonList().get(0).getPayments(), readBack.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void readAddressBook_noBinaryFile_jsonFileImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBookWithPayments();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath), jsonFilePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importFromJsonThenExportToJson_sameJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("original.json");
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBookWithPayments());
+
+        BinaryAddressBookStorage.importFromJson(jsonFilePath, binaryFilePath);
+        BinaryAddressBookStorage.exportToJson(binaryFilePath, exportedFilePath);
+
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(exportedFilePath));
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void importFromJson_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> BinaryAddressBookStorage.importFromJson(
+                testFolder.resolve("missing.json"), testFolder.resolve("converted.bin")));
+    }
+}
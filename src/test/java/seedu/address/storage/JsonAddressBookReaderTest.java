@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+
+public class JsonAddressBookReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private final JsonAddressBookReader reader = new JsonAddressBookReader((personsRead, bytesRead, totalBytes) -> {});
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(reader.read(testFolder.resolve("NonExistentFile.json")).isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                reader.read(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                reader.read(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_noPersonsArray_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        Files.writeString(filePath, "{ \"other\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> reader.read(filePath));
+    }
+
+    @Test
+    public void read_fileFromSerializableAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("serializable.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        assertEquals(original, reader.read(filePath).get());
+    }
+
+    @Test
+    public void read_validFile_progressReportedAfterEachPerson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("compact.json");
+        new JsonAddressBookWriter(true).write(original, filePath);
+        long fileSize = Files.size(filePath);
+        List<Integer> personsRead = new ArrayList<>();
+        List<Long> bytesRead = new ArrayList<>();
+
+        new JsonAddressBookReader((persons, bytes, totalBytes) -> {
+            assertEquals(fileSize, totalBytes);
+            personsRead.add(persons);
+            bytesRead.add(bytes);
+        }).read(filePath);
+
+        assertEquals(original.getPersonList().size(), personsRead.size());
+        for (int i = 0; i < personsRead.size(); i++) {
+            assertEquals(i + 1, (int) personsRead.get(i));
+            assertTrue(i == 0 || bytesRead.get(i) > bytesRead.get(i - 1));
+        }
+    }
+
+    @Test
+    public void read_parallel_sameAddressBookAsSerial() throws Exception {
+        Path filePath = testFolder.resolve("large.json");
+        Files.writeString(filePath, getAddressBookJson(2500, -1, -1));
+        List<Integer> personsRead = new ArrayList<>();
+
+        AddressBook parallel = new JsonAddressBookReader((persons, bytes, totalBytes) -> personsRead.add(persons), true)
+                .read(filePath).get();
+
+        assertEquals(reader.read(filePath).get(), parallel);
+        assertEquals(2500, personsRead.size());
+        assertEquals(2500, (int) personsRead.get(2499));
+    }
+
+    @Test
+    public void read_parallelWithInvalidPersons_firstInvalidPersonReported() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, getAddressBookJson(2500, 1500, 1200));
+        JsonAddressBookReader parallelReader = new JsonAddressBookReader((persons, bytes, totalBytes) -> {}, true);
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () -> parallelReader.read(filePath));
+    }
+
+    @Test
+    public void read_parallelWithInvalidPersonBeforeMalformedJson_invalidPersonReported() throws Exception {
+        Path filePath = testFolder.resolve("malformed.json");
+        String json = getAddressBookJson(10, 3, -1);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        JsonAddressBookReader parallelReader = new JsonAddressBookReader((persons, bytes, totalBytes) -> {}, true);
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> parallelReader.read(filePath));
+    }
+
+    @Test
+    public void read_fileMatchingChecksum_personsNotValidated() throws Exception {
+        Path filePath = testFolder.resolve("trusted.json");
+        String json = getAddressBookJson(3, 1, -1);
+        Files.writeString(filePath, json);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> reader.read(filePath));
+
+        // a checksum file is only written by this app, which never writes invalid persons
+        CRC32C checksum = new CRC32C();
+        checksum.update(json.getBytes(StandardCharsets.UTF_8));
+        JsonChecksum.write(filePath, checksum.getValue());
+
+        assertEquals("phone", reader.read(filePath).get().getPersonList().get(1).getPhone().value);
+    }
+
+    @Test
+    public void read_writtenFileEditedByHand_personsValidated() throws Exception {
+        Path filePath = testFolder.resolve("edited.json");
+        new JsonAddressBookWriter(false).write(getTypicalAddressBook(), filePath);
+        assertEquals(getTypicalAddressBook(), reader.read(filePath).get());
+
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.replaceFirst("\"phone\" : \"\\d+\"", "\"phone\" : \"phone\""));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> reader.read(filePath));
+    }
+
+    /**
+     * Returns an address book file of {@code size} persons, where the person at {@code invalidPhoneIndex} has an
+     * invalid phone and the person at {@code invalidEmailIndex} has an invalid email.
+     */
+    private static String getAddressBookJson(int size, int invalidPhoneIndex, int invalidEmailIndex) {
+        StringBuilder json = new StringBuilder("{ \"persons\" : [ ");
+        for (int i = 0; i < size; i++) {
+            json.append(i == 0 ? "" : ", ")
+                    .append("{ \"name\" : \"Person ").append(i)
+                    .append("\", \"phone\" : \"").append(i == invalidPhoneIndex ? "phone" : "91234567")
+                    .append("\", \"email\" : \"").append(i == invalidEmailIndex ? "email" : "person@example.com")
+                    .append("\", \"tags\" : [ \"friends\" ], \"archived\" : false, \"payments\" : [ ]")
+                    .append(", \"matriculationNumber\" : \"A").append(String.format("%08d", i)).append("X\" }");
+        }
+        return json.append(" ] }").toString();
+    }
+}
@@ -2,22 +2,34 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +98,120 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_journalMode_changesJournalledUntilCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalPath = testFolder.resolve("JournalledAddressBook.json" + AddressBookJournal.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 3);
+
+        // the first save writes the whole file
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // later changes are appended to the journal, and reading applies them to the file
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, 3).readAddressBook().get()));
+
+        // the file is rewritten once the journal would exceed the checkpoint interval
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, 3).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalMode_paymentChangesJournalledWithoutPerson() throws Exception {
+        Path filePath = testFolder.resolve("PaymentsAddressBook.json");
+        Path journalPath = testFolder.resolve("PaymentsAddressBook.json" + AddressBookJournal.FILE_EXTENSION);
+        Payment dues = new Payment(Amount.parse("10"), LocalDate.of(2025, 1, 6), "dues",
+                LocalDateTime.of(2025, 1, 6, 9, 0));
+        Payment refund = new Payment(Amount.parse("2.50"), LocalDate.of(2025, 2, 3), null,
+                LocalDateTime.of(2025, 2, 3, 9, 0));
+        AddressBook original = getTypicalAddressBook();
+        Person alice = ALICE.withAddedPayment(dues).withAddedPayment(dues);
+        original.setPerson(ALICE, alice);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 100);
+        storage.saveAddressBook(original);
+
+        Person added = alice.withAddedPayment(refund);
+        original.setPerson(alice, added);
+        storage.saveAddressBook(original);
+        Person edited = added.withEditedPayment(0, refund);
+        original.setPerson(added, edited);
+        storage.saveAddressBook(original);
+        Person removed = edited.withRemovedPayment(1);
+        original.setPerson(edited, removed);
+        storage.saveAddressBook(original);
+
+        List<String> records = Files.readAllLines(journalPath);
+        assertEquals(4, records.size());
+        assertTrue(records.get(1).contains("\"op\":\"addpayment\""));
+        assertTrue(records.get(2).contains("\"op\":\"editpayment\""));
+        assertTrue(records.get(3).contains("\"op\":\"removepayment\""));
+        assertTrue(records.stream().noneMatch(record -> record.contains("\"person\"")));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, 100).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(List.of(refund, refund), readBack.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void checkpointAddressBook_journalMode_journalMergedIntoFile() throws Exception {
+        Path filePath = testFolder.resolve("CheckpointedAddressBook.json");
+        Path journalPath = testFolder.resolve("CheckpointedAddressBook.json" + AddressBookJournal.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 100);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        storage.checkpointAddressBook();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderFile_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("EditedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 100);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the file is replaced without removing the journal, e.g. by hand
+        AddressBook edited = new AddressBook();
+        edited.addPerson(IDA);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(edited), filePath);
+
+        assertEquals(edited, new AddressBook(new JsonAddressBookStorage(filePath, 100).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalEndsInPartialRecord_partialRecordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TornAddressBook.json");
+        Path journalPath = testFolder.resolve("TornAddressBook.json" + AddressBookJournal.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 100);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        expected.addPerson(HOON);
+        Files.writeString(journalPath, "{\"op\":\"upsert\",\"person\":{\"name\":\"Ida", StandardOpenOption.APPEND);
+
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath, 100).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithPayments;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_null_throwsNullPointerException() {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter(false);
+        assertThrows(NullPointerException.class, () -> writer.write(null, testFolder.resolve("null.json")));
+        assertThrows(NullPointerException.class, () -> writer.write(new AddressBook(), null));
+    }
+
+    @Test
+    public void write_pretty_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithPayments();
+        Path filePath = testFolder.resolve("pretty.json");
+
+        new JsonAddressBookWriter(false).write(addressBook, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_compact_readBackSameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithPayments();
+        Path filePath = testFolder.resolve("compact.json");
+
+        new JsonAddressBookWriter(true).write(addressBook, filePath);
+
+        String json = FileUtil.readFromFile(filePath);
+        assertFalse(json.contains("\n"));
+        assertEquals(addressBook, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void write_validAddressBook_matchingChecksumWritten() throws Exception {
+        Path filePath = testFolder.resolve("checksum.json");
+
+        new JsonAddressBookWriter(false).write(getTypicalAddressBookWithPayments(), filePath);
+        assertTrue(JsonChecksum.matches(filePath));
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath) + "\n");
+        assertFalse(JsonChecksum.matches(filePath));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithPayments;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.exceptions.PaymentLoadingException;
+import seedu.address.model.person.Person;
+
+public class LazyBinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toLazyFilePath() {
+        assertEquals(Paths.get("data", "addressbook.lazy"),
+                LazyBinaryAddressBookStorage.toLazyFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.txt.lazy"),
+                LazyBinaryAddressBookStorage.toLazyFilePath(Paths.get("addressbook.txt")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new LazyBinaryAddressBookStorage(testFolder.resolve("missing.lazy")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notLazyFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notLazy.lazy");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new LazyBinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_paymentsLoadedOnFirstRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.lazy");
+        AddressBook original = getTypicalAddressBookWithPayments();
+        Person originalPerson = original.getPersonList().get(0);
+        new LazyBinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new LazyBinaryAddressBookStorage(filePath).readAddressBook().get());
+        Person person = readBack.getPersonList().get(0);
+
+        assertEquals(original, readBack);
+        assertEquals(original.getTotalPaidCents(), readBack.getTotalPaidCents());
+        assertEquals(originalPerson.getPaymentCount(), person.getPaymentCount());
+        assertEquals(originalPerson.getLastPaymentEpochDay(), person.getLastPaymentEpochDay());
+        assertNotNull(person.getPaymentLoader());
+        assertEquals(originalPerson.getPayments(), person.getPayments());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPayments_storedPaymentsKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.lazy");
+        LazyBinaryAddressBookStorage storage = new LazyBinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBookWithPayments());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Path paymentFilePath = LazyBinaryAddressBookStorage.getPaymentFilePath(filePath, 0);
+        long size = Files.size(paymentFilePath);
+
+        // archiving keeps the payments, and saving twice does not write the same payments twice
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, person.withArchived(!person.isArchived()));
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertEquals(size, Files.size(paymentFilePath));
+
+        Payment payment = new Payment(Amount.parse("4"), LocalDate.of(2025, 3, 4), "late",
+                LocalDateTime.of(2025, 3, 4, 5, 6));
+        addressBook.setPerson(addressBook.getPersonList().get(0),
+                addressBook.getPersonList().get(0).withAddedPayment(payment));
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.size(paymentFilePath) > size);
+
+        AddressBook readBack = new AddressBook(new LazyBinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getPersonList().get(0).getPayments(), readBack.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_paymentsCopied() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.lazy");
+        Path otherFilePath = testFolder.resolve("backup").resolve("addressbook.lazy");
+        LazyBinaryAddressBookStorage storage = new LazyBinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithPayments();
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(storage.readAddressBook().get(), otherFilePath);
+        Files.delete(LazyBinaryAddressBookStorage.getPaymentFilePath(filePath, 0));
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook(otherFilePath).get());
+        assertEquals(original.getPersonList().get(0).getPayments(), readBack.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void saveAddressBook_mostlyUnusedPaymentFile_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.lazy");
+        LazyBinaryAddressBookStorage storage = new LazyBinaryAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        Person person = addressBook.getPersonList().get(0);
+        for (int i = 0; i < 1000; i++) {
+            person = person.withAddedPayment(new Payment(Amount.parse("1"), LocalDate.of(2025, 1, 1), "fees",
+                    LocalDateTime.of(2025, 1, 1, 0, 0)));
+        }
+        addressBook.setPerson(addressBook.getPersonList().get(0), person);
+        int expectedPaymentCount = person.getPaymentCount() - 3;
+        storage.saveAddressBook(addressBook);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // each change to the payments appends them again, until the old copies are dropped
+        for (int i = 0; i < 3; i++) {
+            Person current = addressBook.getPersonList().get(0);
+            addressBook.setPerson(current, current.withRemovedPayment(0));
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertFalse(Files.exists(LazyBinaryAddressBookStorage.getPaymentFilePath(filePath, 0)));
+        AddressBook readBack = new AddressBook(new LazyBinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(expectedPaymentCount, readBack.getPersonList().get(0).getPayments().size());
+        assertEquals(expectedPaymentCount, addressBook.getPersonList().get(0).getPayments().size());
+    }
+
+    @Test
+    public void getPayments_corruptedPaymentFile_throwsPaymentLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.lazy");
+        new LazyBinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithPayments());
+        Person person = new LazyBinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+
+        Files.write(LazyBinaryAddressBookStorage.getPaymentFilePath(filePath, 0), new byte[0]);
+
+        assertThrows(PaymentLoadingException.class, person::getPayments);
+    }
+
+    @Test
+    public void readAddressBook_noLazyFile_jsonFileImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBookWithPayments();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        LazyBinaryAddressBookStorage storage = new LazyBinaryAddressBookStorage(
+                LazyBinaryAddressBookStorage.toLazyFilePath(jsonFilePath), jsonFilePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
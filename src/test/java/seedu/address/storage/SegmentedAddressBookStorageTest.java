@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toSegmentDirectoryPath() {
+        assertEquals(Paths.get("data", "addressbook.segments"),
+                SegmentedAddressBookStorage.toSegmentDirectoryPath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.txt.segments"),
+                SegmentedAddressBookStorage.toSegmentDirectoryPath(Paths.get("addressbook.txt")));
+    }
+
+    @Test
+    public void constructor_invalidSegmentCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(testFolder, null, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(testFolder.resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME),
+                "{ \"segmentCount\" : 0 }");
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(testFolder).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("addressbook.segments");
+        AddressBook original = getTypicalAddressBook();
+
+        new SegmentedAddressBookStorage(directoryPath, null, 4).saveAddressBook(original);
+        AddressBook readBack = new AddressBook(new SegmentedAddressBookStorage(directoryPath).readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyItsSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        for (Path segmentPath : getSegmentPaths()) {
+            Files.delete(segmentPath);
+        }
+
+        addressBook.setPerson(ALICE, ALICE.withArchived(!ALICE.isArchived()));
+        storage.saveAddressBook(addressBook.snapshot());
+
+        assertEquals(1, getSegmentPaths().size());
+    }
+
+    @Test
+    public void saveAddressBook_changesSinceLastSave_sameAddressBookRead() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, null, 4);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // edited in place, removed, and re-added at the end
+        Person first = addressBook.getPersonList().get(0);
+        Person second = addressBook.getPersonList().get(1);
+        Person editedSecond = second.withArchived(!second.isArchived());
+        addressBook.setPerson(second, editedSecond);
+        addressBook.removePerson(first);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(first);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readAddressBook().getPersonList());
+
+        // renamed in place, which cannot keep the order with the existing sequence numbers
+        addressBook.setPerson(editedSecond, new Person(editedSecond.getName(), editedSecond.getPhone(),
+                editedSecond.getEmail(), new MatriculationNumber("A99999999Z"), editedSecond.getTags()));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readAddressBook().getPersonList());
+
+        // changes from a storage that has read the segments
+        storage = new SegmentedAddressBookStorage(testFolder, null, 4);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readAddressBook().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_noSegments_jsonFileImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.toSegmentDirectoryPath(jsonFilePath), jsonFilePath,
+                SegmentedAddressBookStorage.DEFAULT_SEGMENT_COUNT);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private AddressBook readAddressBook() throws DataLoadingException {
+        return new AddressBook(new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    private List<Path> getSegmentPaths() throws IOException {
+        try (Stream<Path> paths = Files.list(testFolder)) {
+            return paths.filter(path -> !path.endsWith(SegmentedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    private final List<IOException> failures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookSaver(null, failures::add));
+        assertThrows(NullPointerException.class, () ->
+                new WriteBehindAddressBookSaver(new RecordingAddressBookStorage(), null));
+    }
+
+    @Test
+    public void save_thenFlush_addressBookWritten() {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        saver.save(addressBook);
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(addressBook, storage.saved.get(0));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void save_whileWriting_coalescedIntoLatestAddressBook() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        storage.blockNextWrite();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, failures::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+
+        saver.save(first);
+        storage.writeStarted.await();
+        saver.save(second);
+        saver.save(third);
+        storage.releaseWrite.countDown();
+        saver.shutdown();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+        assertEquals(1, storage.checkpointCount);
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReported() {
+        IOException exception = new IOException("dummy IO exception");
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(new RecordingAddressBookStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        }, failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books saved to it, and can be made to block a write
+     * until it is released.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+        private boolean isBlocking;
+        private int checkpointCount;
+
+        void blockNextWrite() {
+            isBlocking = true;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isBlocking) {
+                isBlocking = false;
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void checkpointAddressBook() {
+            checkpointCount++;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.testutil;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A utility class for the benchmarks that are run directly rather than as part of the test suite.
+ */
+public class BenchmarkUtil {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    /**
+     * Returns the average time taken in milliseconds to test every element of {@code elements} against
+     * {@code predicate}, measured after a number of warm-up rounds.
+     */
+    public static <T> double timePredicate(Predicate<? super T> predicate, List<T> elements) {
+        long matches = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            matches += countMatches(predicate, elements);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            matches += countMatches(predicate, elements);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (matches < 0) {
+            // keeps the results live so that the loops are not optimised away
+            System.out.println(matches);
+        }
+        return elapsed / 1e6 / MEASURED_ROUNDS;
+    }
+
+    private static <T> int countMatches(Predicate<? super T> predicate, List<T> elements) {
+        int matches = 0;
+        for (T element : elements) {
+            if (predicate.test(element)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
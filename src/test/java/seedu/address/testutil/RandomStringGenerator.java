@@ -0,0 +1,90 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random strings for comparing a validator against the regex it replaces.
+ * The strings are built from characters near the edges of the usual character classes, and from small changes to
+ * valid examples, so that most of them are close to valid.
+ */
+public class RandomStringGenerator {
+
+    /**
+     * Characters that are easily mistaken for letters or digits, or whose case mapping is unusual:
+     * dotless i, long s, sharp s, dotted capital I, Kelvin sign, an Arabic-Indic digit, a full-width digit and an
+     * accented letter, along with ASCII punctuation next to the letter and digit ranges.
+     */
+    private static final String TRICKY_CHARACTERS = "aAzZiIsSkK09 @._-+/:[`{\t"
+            + "\u0131\u017f\u00df\u0130\u212a\u0661\uff11\u00e9";
+
+    private final Random random;
+
+    /**
+     * Creates a generator whose strings are determined by {@code seed}.
+     */
+    public RandomStringGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns {@code count} strings, each either made up of random characters or a random change to one of
+     * {@code validExamples}.
+     */
+    public List<String> generate(int count, String... validExamples) {
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(random.nextBoolean() || validExamples.length == 0
+                    ? randomString()
+                    : mutate(validExamples[random.nextInt(validExamples.length)]));
+        }
+        return strings;
+    }
+
+    private String randomString() {
+        int length = random.nextInt(12);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(randomCharacter());
+        }
+        return builder.toString();
+    }
+
+    private String mutate(String example) {
+        StringBuilder builder = new StringBuilder(example);
+        for (int changes = 1 + random.nextInt(2); changes > 0; changes--) {
+            int index = builder.length() == 0 ? 0 : random.nextInt(builder.length());
+            switch (random.nextInt(4)) {
+            case 0:
+                builder.insert(index, randomCharacter());
+                break;
+            case 1:
+                if (builder.length() > 0) {
+                    builder.deleteCharAt(index);
+                }
+                break;
+            case 2:
+                if (builder.length() > 0) {
+                    builder.setCharAt(index, randomCharacter());
+                }
+                break;
+            default:
+                // leaves the example unchanged, or changes only the case of a character
+                if (builder.length() > 0) {
+                    char c = builder.charAt(index);
+                    builder.setCharAt(index, Character.isUpperCase(c) ? Character.toLowerCase(c)
+                            : Character.toUpperCase(c));
+                }
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private char randomCharacter() {
+        return random.nextInt(4) == 0
+                ? (char) random.nextInt(0x80)
+                : TRICKY_CHARACTERS.charAt(random.nextInt(TRICKY_CHARACTERS.length()));
+    }
+}
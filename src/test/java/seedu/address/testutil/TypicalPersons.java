@@ -11,11 +11,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
 import seedu.address.model.person.Person;
 
 /**
@@ -70,6 +74,22 @@ public class TypicalPersons {
         return ab;
     }
 
+    /**
+     * Returns an {@code AddressBook} with all the typical persons, where {@code ALICE} has payments with and without
+     * remarks, a remark that needs escaping and a remark shared by two payments.
+     */
+    public static AddressBook getTypicalAddressBookWithPayments() {
+        AddressBook ab = getTypicalAddressBook();
+        ab.setPerson(ALICE, ALICE
+                .withAddedPayment(new Payment(Amount.parse("3.50"), LocalDate.of(2025, 1, 2), null,
+                        LocalDateTime.of(2025, 1, 2, 3, 4)))
+                .withAddedPayment(new Payment(Amount.parse("1200"), LocalDate.of(2025, 2, 3), "term \"fees\"",
+                        LocalDateTime.of(2025, 2, 3, 4, 5, 6, 7000)))
+                .withAddedPayment(new Payment(Amount.parse("0.01"), LocalDate.of(2025, 2, 4), "term \"fees\"",
+                        LocalDateTime.of(2025, 2, 4, 4, 5, 6, 7))));
+        return ab;
+    }
+
     public static List<Person> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }